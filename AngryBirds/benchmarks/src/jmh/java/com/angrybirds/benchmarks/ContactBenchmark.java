@@ -0,0 +1,83 @@
+package com.angrybirds.benchmarks;
+
+import com.angrybirds.GameSimulation;
+import com.badlogic.gdx.physics.box2d.World;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * What the contact listener adds to a step. The same scene is stepped with the game's
+ * ContactRouter installed and with no listener at all; the difference between the two timings
+ * divided by the reported contact count is the listener's cost per touching pair per step.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ContactBenchmark {
+
+    @Param({"level1", "tower1000"})
+    public String scene;
+
+    @Param({"router", "none"})
+    public String listener;
+
+    private GameSimulation simulation;
+    private World world;
+
+    /**
+     * Touching pairs seen by each step, summed per iteration
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Contacts {
+        public long contacts;
+
+        @Setup(Level.Iteration)
+        public void clear() {
+            contacts = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        simulation = new GameSimulation(Scenes.load(scene));
+        simulation.setWorldWidth(2000);
+        world = simulation.getWorld();
+        if (listener.equals("none")) {
+            world.setContactListener(null);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void restart() {
+        simulation.restart();
+        if (simulation.beginDrag()) {
+            simulation.release(-50, -15);
+        }
+    }
+
+    @Benchmark
+    public int step(Contacts counters) {
+        for (int i = 0; i < WorldStepBenchmark.STEPS; i++) {
+            simulation.step();
+            counters.contacts += world.getContactCount();
+        }
+        return simulation.getStep();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        simulation.dispose();
+    }
+}
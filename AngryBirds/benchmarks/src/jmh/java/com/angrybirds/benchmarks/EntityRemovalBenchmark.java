@@ -0,0 +1,86 @@
+package com.angrybirds.benchmarks;
+
+import com.angrybirds.EntityRegistry;
+import com.angrybirds.GameSimulation;
+import com.angrybirds.Structure;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of taking one destroyed block out of play the way GameSimulation does it: remove it from
+ * the registry and deactivate its body. Removal should not depend on how many blocks the level
+ * has, so the same number of blocks is removed from towers of every size.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EntityRemovalBenchmark {
+
+    private static final int REMOVALS = 100;
+
+    @Param({"100", "1000", "10000"})
+    public int blocks;
+
+    private GameSimulation simulation;
+    private Structure[] victims;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        simulation = new GameSimulation(Scenes.towers(blocks));
+        EntityRegistry<Structure> structures = simulation.getStructures();
+
+        // Blocks spread over the whole registry, chosen the same way on every run
+        Random random = new Random(42);
+        victims = new Structure[REMOVALS];
+        for (int i = 0; i < REMOVALS; i++) {
+            Structure structure;
+            do {
+                structure = structures.get(random.nextInt(structures.size()));
+            } while (contains(victims, i, structure));
+            victims[i] = structure;
+        }
+    }
+
+    private static boolean contains(Structure[] structures, int count, Structure structure) {
+        for (int i = 0; i < count; i++) {
+            if (structures[i] == structure) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Setup(Level.Invocation)
+    public void restart() {
+        // Reactivates every body and refills the registry
+        simulation.restart();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REMOVALS)
+    public int remove() {
+        EntityRegistry<Structure> structures = simulation.getStructures();
+        for (int i = 0; i < REMOVALS; i++) {
+            structures.remove(victims[i]);
+            victims[i].getBody().setActive(false);
+        }
+        return structures.size();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        simulation.dispose();
+    }
+}
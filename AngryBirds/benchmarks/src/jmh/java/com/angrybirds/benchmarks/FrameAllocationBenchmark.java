@@ -0,0 +1,99 @@
+package com.angrybirds.benchmarks;
+
+import com.angrybirds.Bird;
+import com.angrybirds.BirdState;
+import com.angrybirds.GameSimulation;
+import com.angrybirds.GameStateTracker;
+import com.angrybirds.SlingshotInput;
+import com.angrybirds.TrajectoryPredictor;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.math.Vector2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per-frame work GameScreen does before drawing, without GL: advancing the simulation and,
+ * while aiming, moving the dragged bird and predicting its arc. Run with the GC profiler (the
+ * default for this module), gc.alloc.rate.norm is the number of bytes one frame allocates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FrameAllocationBenchmark {
+
+    private static final float FRAME_TIME = 1 / 60f;
+    // Slingshot layout as GameScreen places it
+    private static final float SLINGSHOT_X = 300;
+    private static final float SLINGSHOT_Y = 500;
+    private static final float SLINGSHOT_WIDTH = 70;
+    private static final float SLINGSHOT_HEIGHT = 140;
+    private static final float PULL_LIMIT = 50;
+
+    private GameSimulation simulation;
+    private SlingshotInput input;
+    private final TrajectoryPredictor trajectory = new TrajectoryPredictor(30, 3);
+    private final Vector2 launchVelocity = new Vector2();
+    private int frame;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        simulation = new GameSimulation(Scenes.load("level1"));
+        simulation.setWorldWidth(2000);
+        input = new SlingshotInput(simulation, new OrthographicCamera(),
+            SLINGSHOT_X, SLINGSHOT_Y, SLINGSHOT_WIDTH, SLINGSHOT_HEIGHT, PULL_LIMIT);
+    }
+
+    /**
+     * A frame spent pulling the band back and forth
+     */
+    @Benchmark
+    public int aimingFrame() {
+        if (!input.isDragging()) {
+            simulation.restart();
+            input.press(GameSimulation.BIRD_READY_X + 1, GameSimulation.BIRD_READY_Y + 1);
+        }
+        float offset = (frame++ % 120) - 60;
+        input.drag(SLINGSHOT_X + offset, SLINGSHOT_Y + offset * 0.5f);
+
+        Vector2 start = input.getDragStart();
+        Vector2 current = input.getDragCurrent();
+        GameSimulation.launchVelocity(current.x - start.x, current.y - start.y, launchVelocity);
+        int dots = trajectory.predict(simulation.getWorld(), current.x, current.y,
+            launchVelocity.x, launchVelocity.y, input.getDraggedBird().getBody().getLinearDamping());
+
+        simulation.advance(FRAME_TIME);
+        return dots;
+    }
+
+    /**
+     * A frame of play: birds are launched as soon as they are loaded and the level starts over
+     * once it is decided, so frames keep covering flight, impacts and settling
+     */
+    @Benchmark
+    public int playFrame() {
+        if (simulation.getOutcome() != GameStateTracker.Outcome.IN_PROGRESS) {
+            input.cancel();
+            simulation.restart();
+        }
+        Bird bird = simulation.getCurrentBird();
+        if (bird != null && bird.getState() == BirdState.LOADED && simulation.beginDrag()) {
+            simulation.release(-50, -15);
+        }
+        simulation.advance(FRAME_TIME);
+        return simulation.getStep();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        simulation.dispose();
+    }
+}
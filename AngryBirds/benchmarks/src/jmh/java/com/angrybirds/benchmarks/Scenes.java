@@ -0,0 +1,147 @@
+package com.angrybirds.benchmarks;
+
+import com.angrybirds.LevelData;
+import com.angrybirds.LevelLoader;
+import com.angrybirds.SpriteMetrics;
+import com.badlogic.gdx.Files;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessFiles;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.physics.box2d.Box2D;
+
+import java.io.File;
+
+/**
+ * Shared setup for the benchmarks: headless file access rooted at the game's assets folder,
+ * the Box2D natives, and the scenes the benchmarks run on. A scene is either a shipped level,
+ * "level1" to "level3", or a synthetic field of block towers, "tower100" for 100 blocks.
+ */
+public final class Scenes {
+
+    // Ground top in pixels, matching GameSimulation's platform
+    private static final float GROUND_TOP = 465f;
+    private static final int TOWER_HEIGHT = 10;
+    private static final float TOWER_SPACING = 40f;
+    private static final float FIRST_TOWER_X = 700f;
+    // Strong enough that blocks settle instead of breaking, so every run does the same work
+    private static final float TOWER_BLOCK_HEALTH = 10000f;
+
+    private static boolean initialised;
+
+    private Scenes() {
+    }
+
+    /**
+     * Point Gdx.files at the assets folder and load the Box2D natives; safe to call repeatedly
+     */
+    public static synchronized void init() {
+        if (initialised) {
+            return;
+        }
+        String root = System.getProperty("angrybirds.assets", "../assets");
+        Gdx.files = new AssetFiles(new File(root).getAbsolutePath());
+        Box2D.init();
+        initialised = true;
+    }
+
+    /**
+     * @param scene Scene name, see the class comment
+     * @return Level description of the scene
+     */
+    public static LevelData load(String scene) {
+        init();
+        if (scene.startsWith("level")) {
+            return LevelLoader.load(Integer.parseInt(scene.substring("level".length())));
+        }
+        if (scene.startsWith("tower")) {
+            return towers(Integer.parseInt(scene.substring("tower".length())));
+        }
+        throw new IllegalArgumentException("Unknown scene " + scene);
+    }
+
+    /**
+     * Rows of upright wooden blocks standing on the ground, TOWER_HEIGHT blocks per tower
+     * @param blocks Total number of blocks
+     */
+    public static LevelData towers(int blocks) {
+        init();
+        LevelData data = new LevelData();
+        LevelData.StructureSpec probe = new LevelData.StructureSpec(LevelData.Material.WOOD,
+            LevelData.Orientation.VERTICAL, 2, 0, 0, LevelData.DEFAULT_STRUCTURE_SCALE, TOWER_BLOCK_HEALTH);
+        float blockWidth = SpriteMetrics.getWidth(probe.getTexturePath());
+        float blockHeight = SpriteMetrics.getHeight(probe.getTexturePath());
+
+        for (int i = 0; i < blocks; i++) {
+            int tower = i / TOWER_HEIGHT;
+            int row = i % TOWER_HEIGHT;
+            data.structures.add(new LevelData.StructureSpec(probe.material, probe.orientation, probe.damageStage,
+                FIRST_TOWER_X + tower * (blockWidth + TOWER_SPACING),
+                GROUND_TOP + row * blockHeight,
+                probe.scale, probe.health));
+        }
+        return data;
+    }
+
+    /**
+     * Headless files whose internal paths resolve against a fixed assets folder instead of the
+     * working directory, which the JMH worker does not let us choose
+     */
+    private static final class AssetFiles implements Files {
+        private final HeadlessFiles files = new HeadlessFiles();
+        private final String root;
+
+        AssetFiles(String root) {
+            this.root = root;
+        }
+
+        @Override
+        public FileHandle getFileHandle(String path, FileType type) {
+            return type == FileType.Internal ? internal(path) : files.getFileHandle(path, type);
+        }
+
+        @Override
+        public FileHandle classpath(String path) {
+            return files.classpath(path);
+        }
+
+        @Override
+        public FileHandle internal(String path) {
+            return files.absolute(new File(root, path).getPath());
+        }
+
+        @Override
+        public FileHandle external(String path) {
+            return files.external(path);
+        }
+
+        @Override
+        public FileHandle absolute(String path) {
+            return files.absolute(path);
+        }
+
+        @Override
+        public FileHandle local(String path) {
+            return files.local(path);
+        }
+
+        @Override
+        public String getExternalStoragePath() {
+            return files.getExternalStoragePath();
+        }
+
+        @Override
+        public boolean isExternalStorageAvailable() {
+            return files.isExternalStorageAvailable();
+        }
+
+        @Override
+        public String getLocalStoragePath() {
+            return files.getLocalStoragePath();
+        }
+
+        @Override
+        public boolean isLocalStorageAvailable() {
+            return files.isLocalStorageAvailable();
+        }
+    }
+}
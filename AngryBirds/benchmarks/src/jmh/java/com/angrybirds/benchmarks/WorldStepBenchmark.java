@@ -0,0 +1,64 @@
+package com.angrybirds.benchmarks;
+
+import com.angrybirds.GameSimulation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one fixed physics step, including contact routing, damage and removals, over the
+ * first simulated second of a scene. Every invocation starts from the restored level with the
+ * first bird launched into it, so each measures the same busy second rather than a world that
+ * has long gone to sleep.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WorldStepBenchmark {
+
+    static final int STEPS = 60;
+
+    @Param({"level1", "level2", "level3", "tower100", "tower1000", "tower10000"})
+    public String scene;
+
+    private GameSimulation simulation;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        simulation = new GameSimulation(Scenes.load(scene));
+        simulation.setWorldWidth(2000);
+    }
+
+    @Setup(Level.Invocation)
+    public void restart() {
+        // A second of stepping is well above a millisecond, so per-invocation setup is fine here
+        simulation.restart();
+        if (simulation.beginDrag()) {
+            simulation.release(-50, -15);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STEPS)
+    public int step() {
+        for (int i = 0; i < STEPS; i++) {
+            simulation.step();
+        }
+        return simulation.getStep();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        simulation.dispose();
+    }
+}
@@ -0,0 +1,141 @@
+package com.angrybirds;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.CircleShape;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.physics.box2d.QueryCallback;
+import com.badlogic.gdx.physics.box2d.Shape;
+import com.badlogic.gdx.physics.box2d.Transform;
+import com.badlogic.gdx.physics.box2d.World;
+
+import java.util.Arrays;
+
+/**
+ * Finds the bodies touching a circle, for explosions and other area effects.
+ * Box2D's broadphase is asked for fixtures whose bounding boxes overlap the circle's bounding
+ * box, so the cost grows with the number of nearby bodies rather than the size of the level.
+ * Each candidate is then tested against its actual circle or polygon shape. Results go into a
+ * buffer owned by the query and stay valid until the next query; nothing is allocated once the
+ * buffer has grown to fit.
+ * Like any world query it must not run inside a world step's contact callbacks.
+ */
+public class AreaQuery implements QueryCallback {
+
+    private Body[] bodies = new Body[16];
+    private int count;
+
+    // Circle and category filter of the query in progress
+    private float centerX;
+    private float centerY;
+    private float radius;
+    private int categoryMask;
+
+    private final Vector2 vertex = new Vector2();
+    private final Vector2 nextVertex = new Vector2();
+
+    /**
+     * Collect every body with a fixture inside or touching a circle
+     * @param world World to search
+     * @param x Centre x in metres
+     * @param y Centre y in metres
+     * @param radius Radius in metres
+     * @param categoryBits BodyCategory bits of the fixtures to report, e.g. structures and pigs
+     * @return Number of bodies found, each reported once
+     */
+    public int queryCircle(World world, float x, float y, float radius, int categoryBits) {
+        count = 0;
+        centerX = x;
+        centerY = y;
+        this.radius = radius;
+        categoryMask = categoryBits;
+        world.QueryAABB(this, x - radius, y - radius, x + radius, y + radius);
+        return count;
+    }
+
+    @Override
+    public boolean reportFixture(Fixture fixture) {
+        if (fixture.isSensor() || (fixture.getFilterData().categoryBits & categoryMask) == 0) {
+            return true;
+        }
+        Body body = fixture.getBody();
+        if (!body.isActive() || contains(body) || !overlaps(fixture)) {
+            return true;
+        }
+        if (count == bodies.length) {
+            bodies = Arrays.copyOf(bodies, count * 2);
+        }
+        bodies[count++] = body;
+        return true;
+    }
+
+    private boolean contains(Body body) {
+        // Bodies with several fixtures are reported once per fixture
+        for (int i = 0; i < count; i++) {
+            if (bodies[i] == body) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean overlaps(Fixture fixture) {
+        Shape shape = fixture.getShape();
+        Transform transform = fixture.getBody().getTransform();
+        if (shape instanceof CircleShape circle) {
+            transform.mul(vertex.set(circle.getPosition()));
+            float reach = radius + circle.getRadius();
+            return vertex.dst2(centerX, centerY) <= reach * reach;
+        }
+        if (shape instanceof PolygonShape polygon) {
+            return overlapsPolygon(polygon, transform);
+        }
+        // Edges and chains are only used for static ground; the broadphase box is close enough
+        return true;
+    }
+
+    private boolean overlapsPolygon(PolygonShape polygon, Transform transform) {
+        int vertices = polygon.getVertexCount();
+        boolean inside = true;
+        float radius2 = radius * radius;
+        polygon.getVertex(vertices - 1, vertex);
+        transform.mul(vertex);
+        for (int i = 0; i < vertices; i++) {
+            polygon.getVertex(i, nextVertex);
+            transform.mul(nextVertex);
+
+            float edgeX = nextVertex.x - vertex.x;
+            float edgeY = nextVertex.y - vertex.y;
+            float toCenterX = centerX - vertex.x;
+            float toCenterY = centerY - vertex.y;
+            // Box2D polygons wind counter-clockwise, so the centre is outside past any edge on the right
+            if (edgeX * toCenterY - edgeY * toCenterX < 0) {
+                inside = false;
+            }
+
+            // Distance from the centre to the closest point of this edge
+            float length2 = edgeX * edgeX + edgeY * edgeY;
+            float t = length2 > 0 ? (toCenterX * edgeX + toCenterY * edgeY) / length2 : 0;
+            t = Math.max(0, Math.min(1, t));
+            float dx = toCenterX - t * edgeX;
+            float dy = toCenterY - t * edgeY;
+            if (dx * dx + dy * dy <= radius2) {
+                return true;
+            }
+            vertex.set(nextVertex);
+        }
+        return inside;
+    }
+
+    /**
+     * @return Number of bodies found by the last query
+     */
+    public int size() {
+        return count;
+    }
+
+    public Body get(int index) {
+        return bodies[index];
+    }
+}
@@ -0,0 +1,207 @@
+package com.angrybirds;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+
+/**
+ * Central AssetManager shared by every screen.
+ * LoadingScreen queues the asset groups below and lets the manager decode them in the
+ * background; screens then pull ready handles instead of reading files on the GL thread.
+ * Everything handed out here is owned by the manager, so screens must not dispose it.
+ */
+public final class Assets {
+
+    // Generated by the packTextures Gradle task
+    public static final String GAME_ATLAS = "atlas/game.atlas";
+
+    // Main menu and the first screen share the theme song
+    public static final AssetDescriptor<?>[] MENU = {
+        textureAsset("main_menu_bg.jpg"),
+        textureAsset("first_screen_bg.jpg"),
+        textureAsset("Play.png"),
+        textureAsset("Play_hover.png"),
+        textureAsset("exit.png"),
+        textureAsset("exit_hover.png"),
+        textureAsset("EXIT_hover.png"),
+        textureAsset("levels.png"),
+        textureAsset("levels_hover.png"),
+        textureAsset("LOAD-SAVED.png"),
+        textureAsset("LOAD-SAVED_hover.png"),
+        musicAsset("main_theme_song.mp3")
+    };
+
+    public static final AssetDescriptor<?>[] LEVELS = {
+        textureAsset("levels_screen_bg.png"),
+        textureAsset("level1.png"),
+        textureAsset("level1_hover.png"),
+        textureAsset("level2.png"),
+        textureAsset("level2_hover.png"),
+        textureAsset("level3.png"),
+        textureAsset("level3_hover.png"),
+        textureAsset("back.png"),
+        textureAsset("back_hover.png")
+    };
+
+    // Backgrounds, HUD buttons, the packed entity atlas and level audio
+    public static final AssetDescriptor<?>[] GAME = {
+        new AssetDescriptor<>(GAME_ATLAS, TextureAtlas.class),
+        textureAsset("game_screen_bg.png"),
+        textureAsset("game_screen_bg_level1.png"),
+        textureAsset("game_screen_bg_level2.png"),
+        textureAsset("game_screen_bg_level3.png"),
+        textureAsset("pause.png"),
+        textureAsset("pause_hover.png"),
+        textureAsset("pause_pressed.png"),
+        textureAsset("give_up_button.png"),
+        textureAsset("give_up_button_hover.png"),
+        textureAsset("end_level_button.png"),
+        textureAsset("end_level_button_hover.png"),
+        soundAsset("angry-birds-slingshot.mp3"),
+        musicAsset("level1_sound.mp3")
+    };
+
+    // Loose entity sprites, only needed when the atlas has not been packed
+    public static final AssetDescriptor<?>[] SPRITES = {
+        textureAsset("slingshot.png"),
+        textureAsset("red_bird.png"),
+        textureAsset("blue_bird.png"),
+        textureAsset("black_bird.png"),
+        textureAsset("yellow_bird.png"),
+        textureAsset("Small_Pig.png"),
+        textureAsset("Small_pig_damage.png"),
+        textureAsset("Small_Pig_damage.png"),
+        textureAsset("Moustache_Pig.png"),
+        textureAsset("Moustache_Pig_damage.png"),
+        textureAsset("King_Pig.png"),
+        textureAsset("King_pig_damage.png"),
+        textureAsset("Vertical_stone_block1.png"),
+        textureAsset("Vertical_stone_block3.png"),
+        textureAsset("Vertical_stone_block4.png"),
+        textureAsset("Vertical_wood_block1.png"),
+        textureAsset("Vertical_wood_block3.png"),
+        textureAsset("Vertical_wood_block4.png"),
+        textureAsset("Vertical_glass_block1.png"),
+        textureAsset("Vertical_glass_block3.png"),
+        textureAsset("Vertical_glass_block4.png"),
+        textureAsset("Horizontal_wood_block1.png"),
+        textureAsset("Horizontal_wood_block4.png"),
+        textureAsset("Horizontal_stone_block1.png"),
+        textureAsset("Horizontal_stone_block4.png")
+    };
+
+    // Pause, win and lose screens
+    public static final AssetDescriptor<?>[] RESULTS = {
+        textureAsset("pause_screen_bg.jpg"),
+        textureAsset("winscreen.png"),
+        textureAsset("losescreen.png"),
+        textureAsset("restart.png"),
+        textureAsset("restart_hover.png"),
+        textureAsset("restart_pressed.png"),
+        textureAsset("go_to_levels.png"),
+        textureAsset("go_to_levels_hover.png"),
+        textureAsset("go_to_levels_pressed.png"),
+        textureAsset("resume.png"),
+        textureAsset("resume_hover.png"),
+        textureAsset("resume_pressed.png"),
+        textureAsset("next_level_button.png"),
+        textureAsset("next_level_button_hover.png"),
+        musicAsset("angry-birds-plush-yeah-sfx (1).mp3"),
+        musicAsset("angry-birds-level-failed-1.mp3")
+    };
+
+    // Milliseconds of GL-thread work the manager may use per frame while loading
+    private static final int UPDATE_BUDGET_MS = 12;
+
+    private static AssetManager manager;
+
+    private Assets() {}
+
+    public static AssetManager getManager() {
+        if (manager == null) {
+            manager = new AssetManager();
+        }
+        return manager;
+    }
+
+    /**
+     * Queue a group for background loading. Files missing from the assets folder are
+     * skipped here and reported by the synchronous fallback if a screen asks for them.
+     * @param group One of the asset groups declared above
+     */
+    public static void queue(AssetDescriptor<?>[] group) {
+        AssetManager assetManager = getManager();
+        for (AssetDescriptor<?> descriptor : group) {
+            if (Gdx.files.internal(descriptor.fileName).exists()) {
+                assetManager.load(descriptor);
+            }
+        }
+    }
+
+    /**
+     * Advance background loading by one frame's budget
+     * @return true once everything queued has been loaded
+     */
+    public static boolean update() {
+        return getManager().update(UPDATE_BUDGET_MS);
+    }
+
+    public static float getProgress() {
+        return getManager().getProgress();
+    }
+
+    public static boolean isLoaded(String path) {
+        return manager != null && manager.isLoaded(path);
+    }
+
+    public static Texture texture(String path) {
+        return get(path, Texture.class);
+    }
+
+    public static TextureAtlas atlas(String path) {
+        return get(path, TextureAtlas.class);
+    }
+
+    public static Music music(String path) {
+        return get(path, Music.class);
+    }
+
+    public static Sound sound(String path) {
+        return get(path, Sound.class);
+    }
+
+    /**
+     * Get a loaded asset, falling back to a blocking load if it was never queued
+     */
+    private static <T> T get(String path, Class<T> type) {
+        AssetManager assetManager = getManager();
+        if (!assetManager.isLoaded(path, type)) {
+            assetManager.load(path, type);
+            assetManager.finishLoadingAsset(path);
+        }
+        return assetManager.get(path, type);
+    }
+
+    public static void dispose() {
+        if (manager != null) {
+            manager.dispose();
+            manager = null;
+        }
+    }
+
+    private static AssetDescriptor<Texture> textureAsset(String path) {
+        return new AssetDescriptor<>(path, Texture.class);
+    }
+
+    private static AssetDescriptor<Music> musicAsset(String path) {
+        return new AssetDescriptor<>(path, Music.class);
+    }
+
+    private static AssetDescriptor<Sound> soundAsset(String path) {
+        return new AssetDescriptor<>(path, Sound.class);
+    }
+}
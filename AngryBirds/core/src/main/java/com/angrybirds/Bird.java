@@ -1,66 +1,116 @@
 package com.angrybirds;
 
 import com.badlogic.gdx.physics.box2d.*;
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.Rectangle;
 
 public class Bird {
-    private Texture texture;
+    // Bound on first draw, so birds can be simulated without a GL context
+    private TextureRegion region;
+    private String texturePath;
     private Vector2 position;
     private float scale;
     private Body body;
+    // Pool the body came from, or null if the bird created its own
+    private BodyPool pool;
     private boolean disposed = false;
+    private BirdState state = BirdState.QUEUED;
     protected float baseDensity = 1.0f;
 
     private float width;
     private float height;
     public static final float PPM = 100.0f;
+    // Levels were tuned while every bird had two overlapping fixtures; the single fixture now
+    // carries twice the density so birds keep the mass they were tuned with
+    private static final float DENSITY_SCALE = 2f;
+
+    // Body transform before the latest physics step, for interpolated drawing
+    private final Vector2 previousPosition = new Vector2();
+    private float previousAngle;
 
     // New physics parameters
     private float rotationDamping = 0.9f;
-    private float groundFrictionMultiplier = 1.5f;
     private float maxRotationSpeed = 5.0f;
 
     public Bird(World world, String texturePath, float x, float y, float scale) {
-        this.texture = loadTexture(texturePath);
+        this.texturePath = texturePath;
         this.position = new Vector2(x, y);
         this.scale = scale;
-        this.width = texture.getWidth() * scale;
-        this.height = texture.getHeight() * scale;
+        this.width = SpriteMetrics.getWidth(texturePath) * scale;
+        this.height = SpriteMetrics.getHeight(texturePath) * scale;
+
+        BodyDef bodyDef = createBodyDef();
+        bodyDef.position.set(x / PPM, y / PPM);
+        body = world.createBody(bodyDef);
 
+        FixtureDef fixtureDef = createFixtureDef();
+        body.createFixture(fixtureDef);
+        fixtureDef.shape.dispose();
+        attachBody();
+    }
+
+    /**
+     * Wrap a body from a pool made by {@link #createBodyPool(int)}; disposing the bird gives the
+     * body back
+     * @param pool Pool the body was obtained from
+     * @param body Active body, already positioned
+     */
+    protected Bird(BodyPool pool, Body body, String texturePath, float scale) {
+        this.texturePath = texturePath;
+        this.position = new Vector2(body.getPosition()).scl(PPM);
+        this.scale = scale;
+        this.width = SpriteMetrics.getWidth(texturePath) * scale;
+        this.height = SpriteMetrics.getHeight(texturePath) * scale;
+        this.pool = pool;
+        this.body = body;
+        attachBody();
+    }
+
+    private BodyDef createBodyDef() {
         BodyDef bodyDef = new BodyDef();
         bodyDef.type = BodyDef.BodyType.DynamicBody;
-        bodyDef.position.set(x / PPM, y / PPM);
         bodyDef.angularDamping = 0.5f; // Add angular damping for more realistic rotation
         bodyDef.linearDamping = 0.2f; // Add linear damping to reduce unrealistic sliding
+        // Allow rotation but with some constraints
+        bodyDef.fixedRotation = false;
+        return bodyDef;
+    }
 
-        body = world.createBody(bodyDef);
-
+    private FixtureDef createFixtureDef() {
         CircleShape shape = new CircleShape();
-        float radius = texture.getWidth() * scale / 2 / PPM;
-        shape.setRadius(radius);
+        shape.setRadius(width / 2 / PPM);
 
         FixtureDef fixtureDef = new FixtureDef();
         fixtureDef.shape = shape;
-        fixtureDef.density = baseDensity;
+        fixtureDef.density = baseDensity * DENSITY_SCALE;
         fixtureDef.friction = 1f;
         fixtureDef.restitution = 0.6f; // Bounciness
+        fixtureDef.filter.categoryBits = BodyCategory.BIRD.bits;
+        return fixtureDef;
+    }
 
-        // Allow rotation but with some constraints
-        body.setFixedRotation(false);
-        body.createFixture(fixtureDef);
-        Fixture birdfixture= body.createFixture(fixtureDef);
-        birdfixture.setUserData(this);
+    private void attachBody() {
+        for (Fixture fixture : body.getFixtureList()) {
+            fixture.setUserData(this);
+        }
         body.setUserData(this);
-        shape.dispose();
+        captureTransform();
+    }
+
+    /**
+     * Create inactive bodies shaped like this bird, e.g. for the copies an ability spawns
+     * @param capacity Number of bodies to create now
+     */
+    public BodyPool createBodyPool(int capacity) {
+        return new BodyPool(body.getWorld(), createBodyDef(), createFixtureDef(), capacity);
     }
 
     public void setDensity(float density) {
         for (Fixture fixture : body.getFixtureList()) {
-            fixture.setDensity(density);
+            fixture.setDensity(density * DENSITY_SCALE);
         }
         body.resetMassData();
     }
@@ -69,30 +119,15 @@ public class Bird {
         return baseDensity;
     }
 
+    /**
+     * Keep the spin in check. Friction stays at the value the fixture was created with, and
+     * nothing here wakes the body, so a bird at rest can fall asleep.
+     */
     public void update(float deltaTime) {
-        // Apply rotation damping
         float currentAngularVelocity = body.getAngularVelocity();
         if (Math.abs(currentAngularVelocity) > maxRotationSpeed) {
             body.setAngularVelocity(Math.signum(currentAngularVelocity) * maxRotationSpeed);
         }
-
-        // Check if bird is on ground and moving
-        if (isOnGround()) {
-            // Increase friction when on ground
-            for (Fixture fixture : body.getFixtureList()) {
-                fixture.setFriction(fixture.getFriction() * groundFrictionMultiplier);
-            }
-
-            // Apply additional torque based on linear velocity
-            Vector2 linearVelocity = body.getLinearVelocity();
-            float torqueIntensity = Math.abs(linearVelocity.x) * 10f;
-            body.applyTorque(linearVelocity.x > 0 ? torqueIntensity : -torqueIntensity, true);
-        }
-    }
-
-    private boolean isOnGround() {
-        // This is a simplified ground check. In a real game, you'd use contact listeners or raycast
-        return Math.abs(body.getLinearVelocity().y) < 0.1f;
     }
 
     public void setBodyType(BodyDef.BodyType bodyType) {
@@ -100,33 +135,60 @@ public class Bird {
     }
 
     public Rectangle getBoundingBox() {
-        return new Rectangle(body.getPosition().x * PPM, body.getPosition().y * PPM,
-            texture.getWidth() * scale, texture.getHeight() * scale);
+        return getBoundingBox(new Rectangle());
+    }
+
+    /**
+     * Bounding box without allocating, for per-event and per-frame callers
+     * @param out Receives the bounds in pixels
+     * @return out
+     */
+    public Rectangle getBoundingBox(Rectangle out) {
+        return out.set(body.getPosition().x * PPM, body.getPosition().y * PPM, width, height);
     }
 
     public void setPosition(float x, float y) {
         body.setTransform(x / PPM, y / PPM, body.getAngle());
+        // Teleports should not be smeared by interpolation
+        captureTransform();
     }
 
-    private Texture loadTexture(String texturePath) {
-        return new Texture(Gdx.files.internal(texturePath));
+    /**
+     * Remember the current body transform; called right before every physics step
+     */
+    public void captureTransform() {
+        previousPosition.set(body.getPosition());
+        previousAngle = body.getAngle();
     }
 
     public void draw(SpriteBatch batch) {
+        draw(batch, 1f);
+    }
+
+    /**
+     * Draw the bird between its previous and current physics transform
+     * @param batch SpriteBatch for rendering
+     * @param alpha Fraction of a physics step elapsed since the last step
+     */
+    public void draw(SpriteBatch batch, float alpha) {
+        if (region == null) {
+            region = TextureCache.obtain(texturePath);
+        }
+        Vector2 current = body.getPosition();
+        float x = MathUtils.lerp(previousPosition.x, current.x, alpha) * PPM;
+        float y = MathUtils.lerp(previousPosition.y, current.y, alpha) * PPM;
+        float angle = MathUtils.lerp(previousAngle, body.getAngle(), alpha);
+
         // Rotate the sprite based on the body's angle
-        batch.draw(texture,
-            body.getPosition().x * PPM - (texture.getWidth() * scale / 2),
-            body.getPosition().y * PPM - (texture.getHeight() * scale / 2),
-            texture.getWidth() * scale / 2,
-            texture.getHeight() * scale / 2,
-            texture.getWidth() * scale,
-            texture.getHeight() * scale,
+        batch.draw(region,
+            x - (width / 2),
+            y - (height / 2),
+            width / 2,
+            height / 2,
+            width,
+            height,
             1, 1,
-            (float) Math.toDegrees(body.getAngle()),
-            0, 0,
-            texture.getWidth(),
-            texture.getHeight(),
-            false, false);
+            angle * MathUtils.radiansToDegrees);
     }
 
     public void setVelocity(float x, float y) {
@@ -134,7 +196,16 @@ public class Bird {
     }
 
     public Vector2 getPosition() {
-        return new Vector2(body.getPosition().x * PPM, body.getPosition().y * PPM);
+        return getPosition(new Vector2());
+    }
+
+    /**
+     * Position without allocating
+     * @param out Receives the centre in pixels
+     * @return out
+     */
+    public Vector2 getPosition(Vector2 out) {
+        return out.set(body.getPosition().x * PPM, body.getPosition().y * PPM);
     }
 
     public void launch(Vector2 force) {
@@ -142,7 +213,20 @@ public class Bird {
     }
 
     public void dispose() {
-        texture.dispose();
+        if (disposed) {
+            return;
+        }
+        // The texture is shared, so only give back this bird's reference
+        if (region != null) {
+            TextureCache.release(texturePath);
+            region = null;
+        }
+        if (pool != null) {
+            pool.free(body);
+        } else {
+            // A spent bird left in the world keeps falling or rolling and holds the level awake
+            body.setActive(false);
+        }
         disposed = true;
     }
 
@@ -150,6 +234,26 @@ public class Bird {
         return disposed;
     }
 
+    public BirdState getState() {
+        return state;
+    }
+
+    /**
+     * Only the simulation moves birds through their lifecycle
+     */
+    void setState(BirdState state) {
+        this.state = state;
+    }
+
+    /**
+     * Bring a spent bird back for a level restart; subclasses also undo their ability.
+     * The body's activity comes back with the rest of its state from the simulation's snapshot.
+     */
+    void reset() {
+        disposed = false;
+        state = BirdState.QUEUED;
+    }
+
     public Body getBody() {
         return body;
     }
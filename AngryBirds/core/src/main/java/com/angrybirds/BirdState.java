@@ -0,0 +1,29 @@
+package com.angrybirds;
+
+/**
+ * Where a bird is in its life, from waiting in the queue to being used up.
+ * GameSimulation moves birds forward on events: loading, the player's drag and release, the first
+ * contact after launch, and Box2D putting the body to sleep. Nothing is inferred from speed
+ * while the bird is still in free flight, so a bird at the top of its arc stays FLYING.
+ */
+public enum BirdState {
+    // Waiting behind the slingshot
+    QUEUED,
+    // Sitting in the slingshot, ready to be picked up
+    LOADED,
+    // Held by the player
+    DRAGGED,
+    // Launched and has not touched anything yet; abilities can be used
+    FLYING,
+    // Hit something and is bouncing or rolling to a stop
+    SETTLING,
+    // At rest or out of the level; the next bird has been loaded
+    SPENT;
+
+    /**
+     * @return true once released until spent
+     */
+    public boolean isLaunched() {
+        return this == FLYING || this == SETTLING;
+    }
+}
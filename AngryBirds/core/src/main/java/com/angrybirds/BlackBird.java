@@ -2,23 +2,55 @@ package com.angrybirds;
 
 import com.badlogic.gdx.physics.box2d.*;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
 
 public class BlackBird extends Bird {
+    // Explosion reach in metres, and the impulse at its centre fading to nothing at the edge
+    static final float EXPLOSION_RADIUS = 1.5f;
+    static final float EXPLOSION_IMPULSE = 4f;
+    private static final int EXPLOSION_TARGETS = BodyCategory.STRUCTURE.bits | BodyCategory.PIG.bits;
+
     private boolean specialAbilityActivated = false;
     private boolean isShaking = false;
     private float shakeDuration = 0.5f;  // Total shake duration
     private float currentShakeDuration = 0f;
     private float shakeIntensity = 10f;  // Maximum shake offset
+    // Own generator so a replayed run shakes exactly like the recorded one
+    private final RandomXS128 shakeRandom = new RandomXS128(0L);
+    private long shakeSeed;
 
     public BlackBird(World world, float x, float y, float scale) {
         super(world, "black_bird.png", x, y, scale);
     }
 
-    public void specialAbility() {
-        // Explosion effect or shake activation
+    /**
+     * Explode: shake the camera and push every block and pig in range away from the bird
+     * @param area Query used to find the bodies in range
+     * @return Number of bodies pushed
+     */
+    public int specialAbility(AreaQuery area) {
+        specialAbilityActivated = true;
         isShaking = true;
         currentShakeDuration = shakeDuration;
+
+        Body body = getBody();
+        float centerX = body.getWorldCenter().x;
+        float centerY = body.getWorldCenter().y;
+        int hits = area.queryCircle(body.getWorld(), centerX, centerY, EXPLOSION_RADIUS, EXPLOSION_TARGETS);
+        for (int i = 0; i < hits; i++) {
+            Body target = area.get(i);
+            Vector2 targetCenter = target.getWorldCenter();
+            float dx = targetCenter.x - centerX;
+            float dy = targetCenter.y - centerY;
+            float distance = (float) Math.sqrt(dx * dx + dy * dy);
+            if (distance < 1e-4f) {
+                continue; // No direction to push in
+            }
+            float impulse = EXPLOSION_IMPULSE * Math.max(0f, 1f - distance / EXPLOSION_RADIUS);
+            target.applyLinearImpulse(dx / distance * impulse, dy / distance * impulse,
+                targetCenter.x, targetCenter.y, true);
+        }
+        return hits;
     }
 
     public void updateShake(float deltaTime) {
@@ -40,7 +72,7 @@ public class BlackBird extends Bird {
         if (!isShaking) return 0;
 
         // Random shake offset between -shakeIntensity and +shakeIntensity
-        return MathUtils.random(-shakeIntensity, shakeIntensity);
+        return -shakeIntensity + shakeRandom.nextFloat() * shakeIntensity * 2;
     }
 
     // Override dispose method to clean up any additional resources
@@ -51,6 +83,23 @@ public class BlackBird extends Bird {
         currentShakeDuration = 0;
     }
 
+    /**
+     * @param seed Seed for the shake offsets; reapplied when the level restarts
+     */
+    public void setShakeSeed(long seed) {
+        shakeSeed = seed;
+        shakeRandom.setSeed(seed);
+    }
+
+    @Override
+    void reset() {
+        super.reset();
+        shakeRandom.setSeed(shakeSeed);
+        specialAbilityActivated = false;
+        isShaking = false;
+        currentShakeDuration = 0;
+    }
+
     public boolean isSpecialAbilityActivated() {
         return specialAbilityActivated;
     }
@@ -7,8 +7,10 @@ import java.util.List;
 
 public class BlueBird extends Bird {
     private boolean specialAbilityActivated = false;
-    private static final int SPLIT_COUNT = 2; // Adjusted to 2 additional birds
+    static final int SPLIT_COUNT = 2; // Adjusted to 2 additional birds
     private float birdScale;
+    // Inactive bodies the split birds are placed on, created with the level
+    private BodyPool splitPool;
 
     // List to track additional birds created by special ability
     private List<Bird> additionalBirds = new ArrayList<>();
@@ -20,20 +22,36 @@ public class BlueBird extends Bird {
         setDensity(baseDensity);
     }
 
+    private BlueBird(BodyPool pool, Body body, float scale) {
+        super(pool, body, "blue_bird.png", scale);
+        this.baseDensity = 1.0f;
+        this.birdScale = scale;
+    }
+
+    /**
+     * The ability does nothing until a pool is set; GameSimulation sets one up with the level
+     * @param splitPool Pool with at least SPLIT_COUNT bodies made by {@link #createBodyPool(int)}
+     */
+    public void setSplitPool(BodyPool splitPool) {
+        this.splitPool = splitPool;
+    }
+
     public Bird[] specialAbility() {
-        if (!specialAbilityActivated) {
-            Vector2 currentPosition = getPosition();
+        if (!specialAbilityActivated && splitPool != null) {
+            Vector2 currentPosition = getBody().getPosition();
             Vector2 currentVelocity = getBody().getLinearVelocity();
 
             // Create additional birds with slight variation in position and velocity
             for (int i = 0; i < SPLIT_COUNT; i++) {
-                float offsetX = (i - 0.5f) * 20f; // Spread birds horizontally
-                float offsetY = (i - 0.5f) * 20f; // Spread birds vertically
+                float offsetX = (i - 0.5f) * 20f / PPM; // Spread birds horizontally
+                float offsetY = (i - 0.5f) * 20f / PPM; // Spread birds vertically
 
-                BlueBird newBird = new BlueBird(getBody().getWorld(),
+                // A pooled body is only moved and switched on, no body or fixture is created
+                Body body = splitPool.obtain(
                     currentPosition.x + offsetX,
                     currentPosition.y + offsetY,
-                    this.birdScale);
+                    0f);
+                BlueBird newBird = new BlueBird(splitPool, body, this.birdScale);
 
                 // Apply slightly varied velocity to each new bird
                 newBird.setVelocity(
@@ -62,6 +80,14 @@ public class BlueBird extends Bird {
         additionalBirds.clear();
     }
 
+    @Override
+    void reset() {
+        super.reset();
+        // The split birds' bodies are removed by the simulation that tracks them
+        additionalBirds.clear();
+        specialAbilityActivated = false;
+    }
+
     public boolean isSpecialAbilityActivated() {
         return specialAbilityActivated;
     }
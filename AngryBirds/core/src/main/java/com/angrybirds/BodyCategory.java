@@ -0,0 +1,40 @@
+package com.angrybirds;
+
+import com.badlogic.gdx.physics.box2d.Fixture;
+
+/**
+ * Collision category of a Box2D fixture, stored in the fixture's filter category bits.
+ * Body factories set it on their FixtureDef before creating the fixture.
+ * ContactRouter reads the bits back to pick a handler without any instanceof checks.
+ */
+public enum BodyCategory {
+    // Box2D's default category (0x0001), for fixtures nobody has classified
+    UNCATEGORIZED,
+    GROUND,
+    BIRD,
+    PIG,
+    STRUCTURE,
+    // Fragments of destroyed blocks; they collide but deal and take no damage
+    DEBRIS;
+
+    private static final BodyCategory[] VALUES = values();
+
+    public final short bits = (short) (1 << ordinal());
+
+    public static int count() {
+        return VALUES.length;
+    }
+
+    /**
+     * @param fixture Fixture taking part in a contact
+     * @return Index of the fixture's category, or -1 if the bits do not name a single category
+     */
+    public static int indexOf(Fixture fixture) {
+        int categoryBits = fixture.getFilterData().categoryBits & 0xFFFF;
+        int index = Integer.numberOfTrailingZeros(categoryBits);
+        if (index >= VALUES.length || categoryBits != (1 << index)) {
+            return -1;
+        }
+        return index;
+    }
+}
@@ -0,0 +1,117 @@
+package com.angrybirds;
+
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.FixtureDef;
+import com.badlogic.gdx.physics.box2d.World;
+
+import java.util.Arrays;
+
+/**
+ * Bodies of one kind created up front and kept inactive until needed, so spawning mid-level only
+ * moves and activates an existing body instead of creating one. Every body is built from the same
+ * BodyDef and FixtureDef template, which the pool keeps for the rare case it has to grow.
+ * Bodies are handed out lowest index first, so a run spawns the same bodies in the same order
+ * every time and replays stay exact. Neither obtain nor free may be called during a world step.
+ */
+public class BodyPool {
+
+    private final World world;
+    private final BodyDef bodyDef;
+    private final FixtureDef fixtureDef;
+
+    private Body[] bodies;
+    private boolean[] inUse;
+    private int count;
+    private int free;
+
+    /**
+     * @param world World the bodies live in
+     * @param bodyDef Template for every body; its position is ignored
+     * @param fixtureDef Template for the body's single fixture; the pool takes over its shape
+     * @param capacity Number of bodies to create right away
+     */
+    public BodyPool(World world, BodyDef bodyDef, FixtureDef fixtureDef, int capacity) {
+        this.world = world;
+        this.bodyDef = bodyDef;
+        this.fixtureDef = fixtureDef;
+        bodyDef.active = false;
+        bodies = new Body[Math.max(1, capacity)];
+        inUse = new boolean[bodies.length];
+        for (int i = 0; i < capacity; i++) {
+            createBody();
+        }
+    }
+
+    private Body createBody() {
+        if (count == bodies.length) {
+            bodies = Arrays.copyOf(bodies, count * 2);
+            inUse = Arrays.copyOf(inUse, count * 2);
+        }
+        Body body = world.createBody(bodyDef);
+        body.createFixture(fixtureDef);
+        bodies[count++] = body;
+        free++;
+        return body;
+    }
+
+    /**
+     * Take a body out of the pool and place it, at rest and awake
+     * @param x X-coordinate in metres
+     * @param y Y-coordinate in metres
+     * @param angle Angle in radians
+     * @return An active body; the pool grows if every body is in use
+     */
+    public Body obtain(float x, float y, float angle) {
+        if (free == 0) {
+            GameLog.warn(GameLog.Category.ENTITY, "Body pool of {} exhausted, growing", count);
+            createBody();
+        }
+        int index = 0;
+        while (inUse[index]) {
+            index++;
+        }
+        inUse[index] = true;
+        free--;
+
+        Body body = bodies[index];
+        body.setTransform(x, y, angle);
+        body.setLinearVelocity(0f, 0f);
+        body.setAngularVelocity(0f);
+        body.setActive(true);
+        body.setAwake(true);
+        return body;
+    }
+
+    /**
+     * Deactivate a body and make it available again; bodies not from this pool are ignored
+     */
+    public void free(Body body) {
+        for (int i = 0; i < count; i++) {
+            if (bodies[i] == body) {
+                if (inUse[i]) {
+                    inUse[i] = false;
+                    free++;
+                    body.setActive(false);
+                    body.setUserData(null);
+                }
+                return;
+            }
+        }
+    }
+
+    public int getFreeCount() {
+        return free;
+    }
+
+    public int getCapacity() {
+        return count;
+    }
+
+    /**
+     * Release the template shape; the bodies go with the world
+     */
+    public void dispose() {
+        fixtureDef.shape.dispose();
+    }
+}
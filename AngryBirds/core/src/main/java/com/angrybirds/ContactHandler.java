@@ -0,0 +1,23 @@
+package com.angrybirds;
+
+import com.badlogic.gdx.physics.box2d.Contact;
+import com.badlogic.gdx.physics.box2d.ContactImpulse;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.Manifold;
+
+/**
+ * Reaction to contacts between two body categories, registered with a ContactRouter.
+ * The router always passes the fixtures in the order the pair was registered, so a
+ * bird-pig handler gets the bird fixture first no matter which one Box2D reports as A.
+ * All callbacks run inside world.step, so bodies must not be created or destroyed here.
+ */
+public interface ContactHandler {
+
+    default void beginContact(Contact contact, Fixture first, Fixture second) {}
+
+    default void endContact(Contact contact, Fixture first, Fixture second) {}
+
+    default void preSolve(Contact contact, Manifold oldManifold, Fixture first, Fixture second) {}
+
+    default void postSolve(Contact contact, ContactImpulse impulse, Fixture first, Fixture second) {}
+}
@@ -0,0 +1,111 @@
+package com.angrybirds;
+
+import com.badlogic.gdx.physics.box2d.Contact;
+import com.badlogic.gdx.physics.box2d.ContactImpulse;
+import com.badlogic.gdx.physics.box2d.ContactListener;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.Manifold;
+import com.badlogic.gdx.physics.box2d.World;
+
+/**
+ * The world's only ContactListener.
+ * Fixtures are classified by their BodyCategory bits and every contact is dispatched through
+ * a pair table indexed by (category A, category B), so the cost of a contact is one lookup
+ * no matter how many handlers or levels exist. Pairs without a handler are ignored.
+ */
+public class ContactRouter implements ContactListener {
+    private final int categories = BodyCategory.count();
+    private final ContactHandler[] handlers = new ContactHandler[categories * categories];
+    // True when Box2D's fixture A is the handler's second category and the pair must be swapped
+    private final boolean[] swapped = new boolean[categories * categories];
+
+    public ContactRouter(World world) {
+        world.setContactListener(this);
+    }
+
+    /**
+     * Register the handler for a category pair, replacing any previous one
+     * @param first Category of the first fixture passed to the handler
+     * @param second Category of the second fixture passed to the handler
+     * @param handler Callbacks for contacts between the two categories
+     */
+    public void register(BodyCategory first, BodyCategory second, ContactHandler handler) {
+        int a = first.ordinal();
+        int b = second.ordinal();
+        handlers[a * categories + b] = handler;
+        swapped[a * categories + b] = false;
+        if (a != b) {
+            handlers[b * categories + a] = handler;
+            swapped[b * categories + a] = true;
+        }
+    }
+
+    private int slot(Contact contact) {
+        int a = BodyCategory.indexOf(contact.getFixtureA());
+        int b = BodyCategory.indexOf(contact.getFixtureB());
+        if (a < 0 || b < 0) {
+            return -1;
+        }
+        return a * categories + b;
+    }
+
+    @Override
+    public void beginContact(Contact contact) {
+        int slot = slot(contact);
+        if (slot < 0 || handlers[slot] == null) {
+            return;
+        }
+        Fixture fixtureA = contact.getFixtureA();
+        Fixture fixtureB = contact.getFixtureB();
+        if (swapped[slot]) {
+            handlers[slot].beginContact(contact, fixtureB, fixtureA);
+        } else {
+            handlers[slot].beginContact(contact, fixtureA, fixtureB);
+        }
+    }
+
+    @Override
+    public void endContact(Contact contact) {
+        int slot = slot(contact);
+        if (slot < 0 || handlers[slot] == null) {
+            return;
+        }
+        Fixture fixtureA = contact.getFixtureA();
+        Fixture fixtureB = contact.getFixtureB();
+        if (swapped[slot]) {
+            handlers[slot].endContact(contact, fixtureB, fixtureA);
+        } else {
+            handlers[slot].endContact(contact, fixtureA, fixtureB);
+        }
+    }
+
+    @Override
+    public void preSolve(Contact contact, Manifold oldManifold) {
+        int slot = slot(contact);
+        if (slot < 0 || handlers[slot] == null) {
+            return;
+        }
+        Fixture fixtureA = contact.getFixtureA();
+        Fixture fixtureB = contact.getFixtureB();
+        if (swapped[slot]) {
+            handlers[slot].preSolve(contact, oldManifold, fixtureB, fixtureA);
+        } else {
+            handlers[slot].preSolve(contact, oldManifold, fixtureA, fixtureB);
+        }
+    }
+
+    @Override
+    public void postSolve(Contact contact, ContactImpulse impulse) {
+        int slot = slot(contact);
+        if (slot < 0 || handlers[slot] == null) {
+            return;
+        }
+        Fixture fixtureA = contact.getFixtureA();
+        Fixture fixtureB = contact.getFixtureB();
+        if (swapped[slot]) {
+            handlers[slot].postSolve(contact, impulse, fixtureB, fixtureA);
+        } else {
+            handlers[slot].postSolve(contact, impulse, fixtureA, fixtureB);
+        }
+    }
+}
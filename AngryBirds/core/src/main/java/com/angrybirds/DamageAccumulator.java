@@ -0,0 +1,115 @@
+package com.angrybirds;
+
+import com.badlogic.gdx.physics.box2d.Contact;
+import com.badlogic.gdx.physics.box2d.ContactImpulse;
+import com.badlogic.gdx.physics.box2d.Fixture;
+
+import java.util.Arrays;
+
+/**
+ * Collects collision impulses while the world steps and turns them into damage afterwards.
+ * postSolve only adds the contact's normal impulse to a float per target, so even a full
+ * tower collapse allocates nothing inside Box2D's callbacks. {@link #apply(Listener)} then
+ * damages each touched target once per step, outside the physics callback.
+ */
+public class DamageAccumulator {
+    // Impulses below this (N*s) are resting or sliding contact, not impacts
+    private static final float IMPULSE_THRESHOLD = 0.5f;
+    // Health lost per N*s of impulse above the threshold
+    private static final float DAMAGE_PER_IMPULSE = 5f;
+
+    /**
+     * Receives every target damaged by {@link #apply(Listener)}
+     */
+    public interface Listener {
+        void onDamaged(Damageable target, float damage);
+    }
+
+    private Damageable[] targets = new Damageable[32];
+    private float[] impulses = new float[32];
+    // Slots hit this step, so apply() does not scan every target; a zero impulse can still be a hit
+    private int[] touched = new int[32];
+    private boolean[] isTouched = new boolean[32];
+    private int targetCount;
+    private int touchedCount;
+
+    /**
+     * Give a target a slot so contacts can accumulate impulses for it
+     * @param target Pig or structure taking part in the simulation
+     */
+    public void register(Damageable target) {
+        if (targetCount == targets.length) {
+            int capacity = targets.length * 2;
+            targets = Arrays.copyOf(targets, capacity);
+            impulses = Arrays.copyOf(impulses, capacity);
+            touched = Arrays.copyOf(touched, capacity);
+            isTouched = Arrays.copyOf(isTouched, capacity);
+        }
+        target.setDamageSlot(targetCount);
+        targets[targetCount++] = target;
+    }
+
+    /**
+     * Add an impulse to a target's total for the current step
+     * @param slot Target slot from {@link Damageable#getDamageSlot()}
+     * @param impulse Impulse in N*s
+     */
+    public void add(int slot, float impulse) {
+        if (!isTouched[slot]) {
+            isTouched[slot] = true;
+            touched[touchedCount++] = slot;
+        }
+        impulses[slot] += impulse;
+    }
+
+    /**
+     * Damage every target that was hit during the last step and reset the totals
+     * @param listener Told about each damaged target, e.g. to queue removal
+     */
+    public void apply(Listener listener) {
+        for (int i = 0; i < touchedCount; i++) {
+            int slot = touched[i];
+            float impulse = impulses[slot];
+            impulses[slot] = 0f;
+            isTouched[slot] = false;
+
+            Damageable target = targets[slot];
+            if (target.getHealth() <= 0) {
+                continue;
+            }
+            float damage = impulse * DAMAGE_PER_IMPULSE;
+            target.applyDamage(damage);
+            listener.onDamaged(target, damage);
+        }
+        touchedCount = 0;
+    }
+
+    /**
+     * Contact handler feeding impulses between two categories into this accumulator
+     * @param firstTakesDamage Whether the first fixture's body is a Damageable
+     * @param secondTakesDamage Whether the second fixture's body is a Damageable
+     */
+    public ContactHandler impactHandler(boolean firstTakesDamage, boolean secondTakesDamage) {
+        return new ContactHandler() {
+            @Override
+            public void postSolve(Contact contact, ContactImpulse impulse, Fixture first, Fixture second) {
+                float[] normalImpulses = impulse.getNormalImpulses();
+                float total = 0f;
+                for (int i = 0; i < impulse.getCount(); i++) {
+                    total += normalImpulses[i];
+                }
+                if (total <= IMPULSE_THRESHOLD) {
+                    return;
+                }
+                total -= IMPULSE_THRESHOLD;
+
+                if (firstTakesDamage) {
+                    add(((Damageable) first.getBody().getUserData()).getDamageSlot(), total);
+                }
+                if (secondTakesDamage) {
+                    add(((Damageable) second.getBody().getUserData()).getDamageSlot(), total);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,15 @@
+package com.angrybirds;
+
+/**
+ * Anything that loses health from collision impulses.
+ * The slot is the target's index in the DamageAccumulator it was registered with.
+ */
+public interface Damageable {
+    void applyDamage(float damage);
+
+    float getHealth();
+
+    int getDamageSlot();
+
+    void setDamageSlot(int slot);
+}
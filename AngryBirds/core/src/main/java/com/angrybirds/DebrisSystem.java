@@ -0,0 +1,290 @@
+package com.angrybirds;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.FixtureDef;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.physics.box2d.World;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Broken blocks as short-lived fragments. A destroyed block splits along its long side into two
+ * halves drawn with the material's half-block sprite. Fragment shapes are worked out when the
+ * level is set up, one BodyPool per distinct material and block size, so a collapse only takes
+ * bodies out of pools. At most MAX_FRAGMENTS are live at once; they sit in a ring in spawn
+ * order, and when it is full the oldest is taken back to make room. Each fragment lives
+ * LIFETIME_STEPS fixed steps and fades out over the last FADE_STEPS of them. Lifetimes are counted
+ * in steps, not seconds, so replays stay exact.
+ */
+public class DebrisSystem {
+
+    public static final int MAX_FRAGMENTS = 24;
+    public static final int LIFETIME_STEPS = 60 * 3;
+    private static final int FADE_STEPS = 30;
+    private static final int FRAGMENTS_PER_BLOCK = 2;
+    private static final float PPM = GameSimulation.PPM;
+    // Pushes the halves apart, in metres per second
+    private static final float SPLIT_SPEED = 0.5f;
+
+    // Same material response as the blocks they come from, see PhysicsManager
+    private static final float DENSITY = 1.0f;
+    private static final float FRICTION = 0.8f;
+    private static final float RESTITUTION = 0.3f;
+    private static final float ANGULAR_DAMPING = 0.6f;
+    private static final float LINEAR_DAMPING = 0.1f;
+
+    /**
+     * One fragment shape: half of a block of a given material and size
+     */
+    private static final class Kind {
+        final String texturePath;
+        // Long and short side of the whole block, in pixels
+        final float length;
+        final float thickness;
+        BodyPool pool;
+        TextureRegion region;
+
+        Kind(String texturePath, float length, float thickness) {
+            this.texturePath = texturePath;
+            this.length = length;
+            this.thickness = thickness;
+        }
+    }
+
+    private final World world;
+    private final List<Kind> kinds = new ArrayList<>();
+
+    // Live fragments, oldest at head
+    private final Body[] bodies = new Body[MAX_FRAGMENTS];
+    private final Kind[] fragmentKinds = new Kind[MAX_FRAGMENTS];
+    private final int[] expiry = new int[MAX_FRAGMENTS];
+    private final float[] previous = new float[MAX_FRAGMENTS * 3];
+    private int head;
+    private int count;
+    private int step;
+
+    private final Vector2 axis = new Vector2();
+    private final Vector2 point = new Vector2();
+    private final Vector2 velocity = new Vector2();
+
+    public DebrisSystem(World world) {
+        this.world = world;
+    }
+
+    /**
+     * Work out the fragment shapes of every breakable block and create their bodies
+     * @param structures Blocks of the level as set up
+     */
+    public void prepare(EntityRegistry<Structure> structures) {
+        List<Kind> found = new ArrayList<>();
+        int[] blocks = new int[structures.size()];
+        for (int i = 0; i < structures.size(); i++) {
+            Structure structure = structures.get(i);
+            if (structure.getDebrisPath() == null) {
+                continue;
+            }
+            float length = Math.max(structure.getWidth(), structure.getHeight());
+            float thickness = Math.min(structure.getWidth(), structure.getHeight());
+            int index = indexOf(found, structure.getDebrisPath(), length, thickness);
+            if (index < 0) {
+                found.add(new Kind(structure.getDebrisPath(), length, thickness));
+                index = found.size() - 1;
+            }
+            blocks[index]++;
+        }
+        for (int i = 0; i < found.size(); i++) {
+            Kind kind = found.get(i);
+            kind.pool = createPool(kind, Math.min(blocks[i] * FRAGMENTS_PER_BLOCK, MAX_FRAGMENTS));
+            kinds.add(kind);
+        }
+    }
+
+    private static int indexOf(List<Kind> kinds, String texturePath, float length, float thickness) {
+        for (int i = 0; i < kinds.size(); i++) {
+            Kind kind = kinds.get(i);
+            if (kind.texturePath.equals(texturePath) && kind.length == length && kind.thickness == thickness) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private BodyPool createPool(Kind kind, int capacity) {
+        BodyDef bodyDef = new BodyDef();
+        bodyDef.type = BodyDef.BodyType.DynamicBody;
+        bodyDef.angularDamping = ANGULAR_DAMPING;
+        bodyDef.linearDamping = LINEAR_DAMPING;
+
+        // Fragments are laid out along the body's x axis; vertical blocks rotate them when spawning
+        PolygonShape shape = new PolygonShape();
+        shape.setAsBox(kind.length / 4 / PPM, kind.thickness / 2 / PPM);
+
+        FixtureDef fixtureDef = new FixtureDef();
+        fixtureDef.shape = shape;
+        fixtureDef.density = DENSITY;
+        fixtureDef.friction = FRICTION;
+        fixtureDef.restitution = RESTITUTION;
+        fixtureDef.filter.categoryBits = BodyCategory.DEBRIS.bits;
+        return new BodyPool(world, bodyDef, fixtureDef, capacity);
+    }
+
+    /**
+     * Replace a destroyed block with its fragments, moving as the block did.
+     * Must be called before the block's body is deactivated and outside a world step.
+     * @return Number of fragments spawned, 0 for blocks without debris
+     */
+    public int shatter(Structure structure) {
+        String texturePath = structure.getDebrisPath();
+        if (texturePath == null) {
+            return 0;
+        }
+        float length = Math.max(structure.getWidth(), structure.getHeight());
+        float thickness = Math.min(structure.getWidth(), structure.getHeight());
+        int index = indexOf(kinds, texturePath, length, thickness);
+        if (index < 0) {
+            return 0;
+        }
+        Kind kind = kinds.get(index);
+
+        Body block = structure.getBody();
+        // The long side runs along the body's x axis for horizontal blocks and y for vertical ones
+        float angle = block.getAngle();
+        if (structure.getHeight() > structure.getWidth()) {
+            angle += MathUtils.HALF_PI;
+        }
+        axis.set(MathUtils.cos(angle), MathUtils.sin(angle));
+        float offset = length / 4 / PPM;
+        Vector2 center = block.getPosition();
+        float centerX = center.x;
+        float centerY = center.y;
+        float angularVelocity = block.getAngularVelocity();
+
+        for (int side = -1; side <= 1; side += 2) {
+            float x = centerX + axis.x * offset * side;
+            float y = centerY + axis.y * offset * side;
+            velocity.set(block.getLinearVelocityFromWorldPoint(point.set(x, y)));
+            velocity.mulAdd(axis, SPLIT_SPEED * side);
+            spawn(kind, x, y, angle, angularVelocity);
+        }
+        return FRAGMENTS_PER_BLOCK;
+    }
+
+    private void spawn(Kind kind, float x, float y, float angle, float angularVelocity) {
+        if (count == MAX_FRAGMENTS) {
+            removeOldest();
+        }
+        Body body = kind.pool.obtain(x, y, angle);
+        body.setLinearVelocity(velocity);
+        body.setAngularVelocity(angularVelocity);
+
+        int slot = (head + count) % MAX_FRAGMENTS;
+        bodies[slot] = body;
+        fragmentKinds[slot] = kind;
+        expiry[slot] = step + LIFETIME_STEPS;
+        previous[slot * 3] = x;
+        previous[slot * 3 + 1] = y;
+        previous[slot * 3 + 2] = angle;
+        count++;
+    }
+
+    private void removeOldest() {
+        fragmentKinds[head].pool.free(bodies[head]);
+        bodies[head] = null;
+        fragmentKinds[head] = null;
+        head = (head + 1) % MAX_FRAGMENTS;
+        count--;
+    }
+
+    /**
+     * Age the fragments by one step; expired ones go back to their pools.
+     * Every fragment lives equally long, so they expire in spawn order.
+     */
+    public void update() {
+        step++;
+        while (count > 0 && expiry[head] <= step) {
+            removeOldest();
+        }
+    }
+
+    /**
+     * Remember the fragments' transforms; called right before every physics step
+     */
+    public void captureTransforms() {
+        for (int i = 0; i < count; i++) {
+            int slot = (head + i) % MAX_FRAGMENTS;
+            Body body = bodies[slot];
+            previous[slot * 3] = body.getPosition().x;
+            previous[slot * 3 + 1] = body.getPosition().y;
+            previous[slot * 3 + 2] = body.getAngle();
+        }
+    }
+
+    /**
+     * Return every fragment to its pool, e.g. for a level restart
+     */
+    public void clear() {
+        while (count > 0) {
+            removeOldest();
+        }
+        head = 0;
+        step = 0;
+    }
+
+    /**
+     * @return Number of fragments currently in the world
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * @param alpha Interpolation factor between the last two physics states
+     */
+    public void draw(Batch batch, float alpha) {
+        float red = batch.getColor().r;
+        float green = batch.getColor().g;
+        float blue = batch.getColor().b;
+        float opacity = batch.getColor().a;
+        for (int i = 0; i < count; i++) {
+            int slot = (head + i) % MAX_FRAGMENTS;
+            Body body = bodies[slot];
+            Kind kind = fragmentKinds[slot];
+            if (kind.region == null) {
+                kind.region = TextureCache.obtain(kind.texturePath);
+            }
+            Vector2 current = body.getPosition();
+            float x = MathUtils.lerp(previous[slot * 3], current.x, alpha) * PPM;
+            float y = MathUtils.lerp(previous[slot * 3 + 1], current.y, alpha) * PPM;
+            float angle = MathUtils.lerp(previous[slot * 3 + 2], body.getAngle(), alpha);
+            float width = kind.length / 2;
+            float height = kind.thickness;
+
+            int remaining = expiry[slot] - step;
+            batch.setColor(red, green, blue, opacity * Math.min(1f, remaining / (float) FADE_STEPS));
+            batch.draw(kind.region, x - width / 2, y - height / 2, width / 2, height / 2,
+                width, height, 1f, 1f, angle * MathUtils.radiansToDegrees);
+        }
+        batch.setColor(red, green, blue, opacity);
+    }
+
+    /**
+     * Release the fragment sprites and pool shapes; the bodies go with the world
+     */
+    public void dispose() {
+        for (int i = 0; i < kinds.size(); i++) {
+            Kind kind = kinds.get(i);
+            kind.pool.dispose();
+            if (kind.region != null) {
+                TextureCache.release(kind.texturePath);
+                kind.region = null;
+            }
+        }
+        kinds.clear();
+    }
+}
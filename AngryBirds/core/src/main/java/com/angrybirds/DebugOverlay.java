@@ -0,0 +1,379 @@
+package com.angrybirds;
+
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.ChainShape;
+import com.badlogic.gdx.physics.box2d.CircleShape;
+import com.badlogic.gdx.physics.box2d.Contact;
+import com.badlogic.gdx.physics.box2d.EdgeShape;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.Joint;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.physics.box2d.Shape;
+import com.badlogic.gdx.physics.box2d.Transform;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.physics.box2d.WorldManifold;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Physics debug view drawn over the sprites, off unless asked for. F4 switches it on and off and,
+ * while it is on, the number keys 1 to 6 switch its layers. It can also be started from the
+ * command line with -Dangrybirds.debug=shapes,contacts (or "all"), which the desktop launcher
+ * sets from --debug.
+ * Lines are drawn as stretched pixels through the game's own SpriteBatch, so there is no second
+ * renderer or shader, and world coordinates are scaled to the pixels the sprites use. While the
+ * overlay is off, drawing returns straight away and nothing, not even the pixel texture, exists.
+ */
+public class DebugOverlay {
+
+    public enum Layer {
+        // Fixture outlines, coloured by body type
+        SHAPES(Input.Keys.NUM_1),
+        // Bounding box of every fixture
+        AABBS(Input.Keys.NUM_2),
+        // Contact points and normals of touching fixtures
+        CONTACTS(Input.Keys.NUM_3),
+        // Lines between joint anchors
+        JOINTS(Input.Keys.NUM_4),
+        // Outlines of sleeping bodies, even when SHAPES is off
+        SLEEPING(Input.Keys.NUM_5),
+        // Linear velocity of dynamic bodies, one tenth of a second ahead
+        VELOCITIES(Input.Keys.NUM_6);
+
+        final int key;
+
+        Layer(int key) {
+            this.key = key;
+        }
+    }
+
+    public static final String LAUNCH_PROPERTY = "angrybirds.debug";
+    public static final int TOGGLE_KEY = Input.Keys.F4;
+
+    private static final Layer[] LAYERS = Layer.values();
+    private static final float PPM = GameSimulation.PPM;
+    private static final float LINE_WIDTH = 1.5f;
+    private static final int CIRCLE_SEGMENTS = 16;
+    private static final float CONTACT_SIZE = 4f;
+    private static final float NORMAL_LENGTH = 12f;
+    private static final float VELOCITY_SECONDS = 0.1f;
+
+    private static final Color STATIC_COLOR = new Color(0.5f, 0.9f, 0.5f, 1f);
+    private static final Color KINEMATIC_COLOR = new Color(0.5f, 0.5f, 0.9f, 1f);
+    private static final Color DYNAMIC_COLOR = new Color(0.9f, 0.7f, 0.7f, 1f);
+    private static final Color SLEEPING_COLOR = new Color(0.3f, 0.6f, 1f, 1f);
+    private static final Color AABB_COLOR = new Color(1f, 0f, 1f, 1f);
+    private static final Color CONTACT_COLOR = new Color(1f, 1f, 0f, 1f);
+    private static final Color JOINT_COLOR = new Color(0.5f, 0.8f, 0.8f, 1f);
+    private static final Color VELOCITY_COLOR = new Color(1f, 0.5f, 0f, 1f);
+
+    private final boolean[] layers = new boolean[LAYERS.length];
+    private boolean enabled;
+
+    // Created the first time the overlay is drawn
+    private Texture pixelTexture;
+    private TextureRegion pixel;
+
+    private final Array<Body> bodies = new Array<>();
+    private final Array<Joint> joints = new Array<>();
+    private final Vector2 point = new Vector2();
+    private final Vector2 previous = new Vector2();
+    private final Vector2 first = new Vector2();
+    // Running bounds of the fixture being outlined, in pixels
+    private float minX;
+    private float minY;
+    private float maxX;
+    private float maxY;
+
+    public DebugOverlay() {
+        layers[Layer.SHAPES.ordinal()] = true;
+    }
+
+    /**
+     * @return An overlay set up from the angrybirds.debug system property; off if it is not set
+     */
+    public static DebugOverlay fromLaunchFlags() {
+        DebugOverlay overlay = new DebugOverlay();
+        String spec = System.getProperty(LAUNCH_PROPERTY);
+        if (spec != null) {
+            overlay.configure(spec);
+        }
+        return overlay;
+    }
+
+    /**
+     * Switch the overlay on with the given layers
+     * @param spec Comma separated layer names, "all", or empty for the default shapes layer
+     */
+    public void configure(String spec) {
+        enabled = true;
+        String trimmed = spec.trim();
+        if (trimmed.isEmpty() || trimmed.equalsIgnoreCase("true")) {
+            return;
+        }
+        for (Layer layer : LAYERS) {
+            layers[layer.ordinal()] = trimmed.equalsIgnoreCase("all");
+        }
+        if (trimmed.equalsIgnoreCase("all")) {
+            return;
+        }
+        for (String name : trimmed.split(",")) {
+            Layer layer = find(name.trim());
+            if (layer != null) {
+                layers[layer.ordinal()] = true;
+            } else {
+                GameLog.warn(GameLog.Category.PHYSICS, "Unknown debug layer " + name.trim());
+            }
+        }
+    }
+
+    private static Layer find(String name) {
+        for (Layer layer : LAYERS) {
+            if (layer.name().equalsIgnoreCase(name)) {
+                return layer;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return true if the key was one of the overlay's
+     */
+    public boolean keyDown(int keycode) {
+        if (keycode == TOGGLE_KEY) {
+            enabled = !enabled;
+            return true;
+        }
+        if (!enabled) {
+            return false;
+        }
+        for (Layer layer : LAYERS) {
+            if (layer.key == keycode) {
+                layers[layer.ordinal()] = !layers[layer.ordinal()];
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isLayerEnabled(Layer layer) {
+        return layers[layer.ordinal()];
+    }
+
+    public void setLayerEnabled(Layer layer, boolean on) {
+        layers[layer.ordinal()] = on;
+    }
+
+    /**
+     * Draw the enabled layers, if the overlay is on
+     * @param batch Batch with the game camera's projection, not yet begun
+     * @param world World to show
+     */
+    public void draw(Batch batch, World world) {
+        if (!enabled) {
+            return;
+        }
+        if (pixel == null) {
+            Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+            pixmap.setColor(Color.WHITE);
+            pixmap.fill();
+            pixelTexture = new Texture(pixmap);
+            pixmap.dispose();
+            pixel = new TextureRegion(pixelTexture);
+        }
+
+        batch.begin();
+        world.getBodies(bodies);
+        for (int i = 0; i < bodies.size; i++) {
+            Body body = bodies.get(i);
+            // Pooled bodies waiting to be used are not part of the scene
+            if (body.isActive()) {
+                drawBody(batch, body);
+            }
+        }
+        if (layers[Layer.CONTACTS.ordinal()]) {
+            drawContacts(batch, world);
+        }
+        if (layers[Layer.JOINTS.ordinal()]) {
+            world.getJoints(joints);
+            batch.setColor(JOINT_COLOR);
+            for (int i = 0; i < joints.size; i++) {
+                Joint joint = joints.get(i);
+                Vector2 anchorA = joint.getAnchorA();
+                line(batch, anchorA.x * PPM, anchorA.y * PPM,
+                    joint.getAnchorB().x * PPM, joint.getAnchorB().y * PPM);
+            }
+        }
+        batch.setColor(Color.WHITE);
+        batch.end();
+    }
+
+    private void drawBody(Batch batch, Body body) {
+        boolean sleeping = body.getType() == BodyDef.BodyType.DynamicBody && !body.isAwake();
+        boolean sleepLayer = layers[Layer.SLEEPING.ordinal()];
+        boolean outline = layers[Layer.SHAPES.ordinal()] || (sleepLayer && sleeping);
+        boolean bounds = layers[Layer.AABBS.ordinal()];
+        if (outline || bounds) {
+            Color color = sleepLayer && sleeping ? SLEEPING_COLOR : bodyColor(body);
+            Transform transform = body.getTransform();
+            Array<Fixture> fixtures = body.getFixtureList();
+            for (int i = 0; i < fixtures.size; i++) {
+                batch.setColor(color);
+                // The outline pass also measures the fixture's bounds
+                outline(batch, fixtures.get(i).getShape(), transform, outline);
+                if (bounds) {
+                    batch.setColor(AABB_COLOR);
+                    rectangle(batch, minX, minY, maxX, maxY);
+                }
+            }
+        }
+        if (layers[Layer.VELOCITIES.ordinal()] && body.getType() == BodyDef.BodyType.DynamicBody && !sleeping) {
+            Vector2 center = body.getWorldCenter();
+            float x = center.x * PPM;
+            float y = center.y * PPM;
+            Vector2 velocity = body.getLinearVelocity();
+            batch.setColor(VELOCITY_COLOR);
+            line(batch, x, y, x + velocity.x * VELOCITY_SECONDS * PPM, y + velocity.y * VELOCITY_SECONDS * PPM);
+        }
+    }
+
+    private static Color bodyColor(Body body) {
+        switch (body.getType()) {
+            case StaticBody:
+                return STATIC_COLOR;
+            case KinematicBody:
+                return KINEMATIC_COLOR;
+            default:
+                return DYNAMIC_COLOR;
+        }
+    }
+
+    /**
+     * Walk a shape's outline in pixels, drawing it if asked and recording its bounds either way
+     */
+    private void outline(Batch batch, Shape shape, Transform transform, boolean draw) {
+        minX = Float.MAX_VALUE;
+        minY = Float.MAX_VALUE;
+        maxX = -Float.MAX_VALUE;
+        maxY = -Float.MAX_VALUE;
+        if (shape instanceof CircleShape circle) {
+            transform.mul(point.set(circle.getPosition()));
+            float x = point.x * PPM;
+            float y = point.y * PPM;
+            float radius = circle.getRadius() * PPM;
+            minX = x - radius;
+            minY = y - radius;
+            maxX = x + radius;
+            maxY = y + radius;
+            if (draw) {
+                previous.set(x + radius, y);
+                for (int i = 1; i <= CIRCLE_SEGMENTS; i++) {
+                    float angle = MathUtils.PI2 * i / CIRCLE_SEGMENTS;
+                    float nextX = x + radius * MathUtils.cos(angle);
+                    float nextY = y + radius * MathUtils.sin(angle);
+                    line(batch, previous.x, previous.y, nextX, nextY);
+                    previous.set(nextX, nextY);
+                }
+                // A spoke shows the rotation
+                float rotation = transform.getRotation();
+                line(batch, x, y, x + radius * MathUtils.cos(rotation), y + radius * MathUtils.sin(rotation));
+            }
+        } else if (shape instanceof PolygonShape polygon) {
+            int vertices = polygon.getVertexCount();
+            for (int i = 0; i < vertices; i++) {
+                polygon.getVertex(i, point);
+                vertexTo(batch, transform, i, draw);
+            }
+            if (draw && vertices > 1) {
+                line(batch, previous.x, previous.y, first.x, first.y);
+            }
+        } else if (shape instanceof EdgeShape edge) {
+            edge.getVertex1(point);
+            vertexTo(batch, transform, 0, draw);
+            edge.getVertex2(point);
+            vertexTo(batch, transform, 1, draw);
+        } else if (shape instanceof ChainShape chain) {
+            int vertices = chain.getVertexCount();
+            for (int i = 0; i < vertices; i++) {
+                chain.getVertex(i, point);
+                vertexTo(batch, transform, i, draw);
+            }
+        }
+    }
+
+    /**
+     * Continue an outline to the local vertex in point
+     */
+    private void vertexTo(Batch batch, Transform transform, int index, boolean draw) {
+        transform.mul(point);
+        point.scl(PPM);
+        minX = Math.min(minX, point.x);
+        minY = Math.min(minY, point.y);
+        maxX = Math.max(maxX, point.x);
+        maxY = Math.max(maxY, point.y);
+        if (index == 0) {
+            first.set(point);
+        } else if (draw) {
+            line(batch, previous.x, previous.y, point.x, point.y);
+        }
+        previous.set(point);
+    }
+
+    private void drawContacts(Batch batch, World world) {
+        Array<Contact> contacts = world.getContactList();
+        batch.setColor(CONTACT_COLOR);
+        for (int i = 0; i < contacts.size; i++) {
+            Contact contact = contacts.get(i);
+            if (!contact.isTouching()) {
+                continue;
+            }
+            WorldManifold manifold = contact.getWorldManifold();
+            Vector2 normal = manifold.getNormal();
+            Vector2[] points = manifold.getPoints();
+            for (int p = 0; p < manifold.getNumberOfContactPoints(); p++) {
+                float x = points[p].x * PPM;
+                float y = points[p].y * PPM;
+                batch.draw(pixel, x - CONTACT_SIZE / 2, y - CONTACT_SIZE / 2, CONTACT_SIZE, CONTACT_SIZE);
+                line(batch, x, y, x + normal.x * NORMAL_LENGTH, y + normal.y * NORMAL_LENGTH);
+            }
+        }
+    }
+
+    private void rectangle(Batch batch, float x1, float y1, float x2, float y2) {
+        line(batch, x1, y1, x2, y1);
+        line(batch, x2, y1, x2, y2);
+        line(batch, x2, y2, x1, y2);
+        line(batch, x1, y2, x1, y1);
+    }
+
+    private void line(Batch batch, float x1, float y1, float x2, float y2) {
+        float dx = x2 - x1;
+        float dy = y2 - y1;
+        float length = (float) Math.sqrt(dx * dx + dy * dy);
+        if (length == 0) {
+            return;
+        }
+        float degrees = MathUtils.atan2(dy, dx) * MathUtils.radiansToDegrees;
+        batch.draw(pixel, x1, y1 - LINE_WIDTH / 2, 0, LINE_WIDTH / 2, length, LINE_WIDTH, 1f, 1f, degrees);
+    }
+
+    public void dispose() {
+        if (pixelTexture != null) {
+            pixelTexture.dispose();
+            pixelTexture = null;
+            pixel = null;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.angrybirds;
+
+import java.util.Arrays;
+
+/**
+ * Live entities of one kind, packed in a dense array for allocation-free iteration.
+ * Removal swaps the last entity into the hole, so it is O(1) but does not keep insertion order.
+ * Each entity gets a handle made of a slot and a generation; the generation changes when the
+ * slot is freed, so a handle to a removed entity stays invalid even after its slot is reused.
+ */
+public class EntityRegistry<T extends EntityRegistry.Member> {
+
+    /**
+     * Anything that can be stored in a registry keeps its own handle for O(1) removal
+     */
+    public interface Member {
+        int getRegistryHandle();
+
+        void setRegistryHandle(int handle);
+    }
+
+    public static final int INVALID_HANDLE = -1;
+
+    // Low bits of a handle address the slot, high bits carry the slot's generation
+    private static final int SLOT_BITS = 20;
+    private static final int SLOT_MASK = (1 << SLOT_BITS) - 1;
+    private static final int GENERATION_MASK = (1 << (31 - SLOT_BITS)) - 1;
+
+    private Member[] dense;
+    private int[] denseSlots;
+    private int[] slotToDense;
+    private int[] generations;
+    private int[] freeSlots;
+    private int size;
+    private int slotCount;
+    private int freeCount;
+
+    public EntityRegistry() {
+        this(16);
+    }
+
+    public EntityRegistry(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        dense = new Member[capacity];
+        denseSlots = new int[capacity];
+        slotToDense = new int[capacity];
+        generations = new int[capacity];
+        freeSlots = new int[capacity];
+    }
+
+    /**
+     * Add an entity and store its handle on it
+     * @param entity Entity that is not in any registry yet
+     * @return The entity's handle
+     */
+    public int add(T entity) {
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            if (slotCount == SLOT_MASK) {
+                throw new IllegalStateException("Entity registry is full");
+            }
+            slot = slotCount++;
+            ensureCapacity(slotCount);
+        }
+
+        dense[size] = entity;
+        denseSlots[size] = slot;
+        slotToDense[slot] = size;
+        size++;
+
+        int handle = (generations[slot] << SLOT_BITS) | slot;
+        entity.setRegistryHandle(handle);
+        return handle;
+    }
+
+    /**
+     * @param handle Handle returned by {@link #add(Member)}
+     * @return true if the handle still refers to a live entity
+     */
+    public boolean contains(int handle) {
+        if (handle < 0) {
+            return false;
+        }
+        int slot = handle & SLOT_MASK;
+        return slot < slotCount
+            && slotToDense[slot] >= 0
+            && generations[slot] == (handle >>> SLOT_BITS);
+    }
+
+    /**
+     * Remove the entity behind a handle; stale or repeated handles are ignored
+     * @param handle Handle returned by {@link #add(Member)}
+     * @return true if an entity was removed
+     */
+    public boolean remove(int handle) {
+        if (!contains(handle)) {
+            return false;
+        }
+        int slot = handle & SLOT_MASK;
+        int index = slotToDense[slot];
+        Member removed = dense[index];
+
+        // Move the last entity into the hole
+        int last = size - 1;
+        dense[index] = dense[last];
+        denseSlots[index] = denseSlots[last];
+        slotToDense[denseSlots[index]] = index;
+        dense[last] = null;
+        size--;
+
+        slotToDense[slot] = -1;
+        generations[slot] = (generations[slot] + 1) & GENERATION_MASK;
+        freeSlots[freeCount++] = slot;
+        removed.setRegistryHandle(INVALID_HANDLE);
+        return true;
+    }
+
+    public boolean remove(T entity) {
+        return remove(entity.getRegistryHandle());
+    }
+
+    /**
+     * @param index Dense index in [0, size)
+     * @return Live entity at that index
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        return (T) dense[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            int slot = denseSlots[i];
+            slotToDense[slot] = -1;
+            generations[slot] = (generations[slot] + 1) & GENERATION_MASK;
+            freeSlots[freeCount++] = slot;
+            dense[i].setRegistryHandle(INVALID_HANDLE);
+            dense[i] = null;
+        }
+        size = 0;
+    }
+
+    private void ensureCapacity(int slots) {
+        if (slots <= slotToDense.length) {
+            return;
+        }
+        int capacity = Math.max(slots, slotToDense.length * 2);
+        dense = Arrays.copyOf(dense, capacity);
+        denseSlots = Arrays.copyOf(denseSlots, capacity);
+        slotToDense = Arrays.copyOf(slotToDense, capacity);
+        generations = Arrays.copyOf(generations, capacity);
+        freeSlots = Arrays.copyOf(freeSlots, capacity);
+    }
+}
@@ -9,13 +9,11 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.ImageButton;
-import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
-import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.audio.Music;
 
@@ -28,7 +26,7 @@ public class FirstScreen implements Screen {
     private Texture backgroundTexture;
     private SpriteBatch batch;
     private OrthographicCamera camera;
-    private Texture loadSavedTexture, exitTexture;
+    private Texture loadSavedTexture, exitTexture, levelsTexture;
     private Texture loadSavedHoverTexture, exitHoverTexture, levelsHoverTexture;
     private Music backgroundMusic;
 
@@ -44,26 +42,26 @@ public class FirstScreen implements Screen {
         batch = new SpriteBatch();
         Gdx.input.setInputProcessor(stage);
 
-        Skin skin = new Skin(Gdx.files.internal("uiskin.json"));
-        backgroundTexture = new Texture(Gdx.files.internal("first_screen_bg.jpg"));
-        loadSavedTexture = new Texture(Gdx.files.internal("LOAD-SAVED.png"));
-        loadSavedHoverTexture = new Texture(Gdx.files.internal("LOAD-SAVED_hover.png"));
-        exitTexture = new Texture(Gdx.files.internal("exit.png"));
-        exitHoverTexture = new Texture(Gdx.files.internal("exit_hover.png"));
-        levelsHoverTexture = new Texture(Gdx.files.internal("levels_hover.png"));
+        backgroundTexture = Assets.texture("first_screen_bg.jpg");
+        loadSavedTexture = Assets.texture("LOAD-SAVED.png");
+        loadSavedHoverTexture = Assets.texture("LOAD-SAVED_hover.png");
+        exitTexture = Assets.texture("exit.png");
+        exitHoverTexture = Assets.texture("exit_hover.png");
+        levelsTexture = Assets.texture("levels.png");
+        levelsHoverTexture = Assets.texture("levels_hover.png");
 
-        backgroundMusic = Gdx.audio.newMusic(Gdx.files.internal("main_theme_song.mp3"));
+        backgroundMusic = Assets.music("main_theme_song.mp3");
         backgroundMusic.setLooping(true); // Loop the music
         backgroundMusic.play();
 
-        ImageButton levelsButton = new ImageButton(new TextureRegionDrawable(new Texture(Gdx.files.internal("levels.png"))));
-        levelsButton.addListener(new HoverClickListener(levelsButton, "levels.png", "levels_hover.png", game, new LevelsScreen(game), false, false));
+        ImageButton levelsButton = new ImageButton(createButtonStyle(levelsTexture, levelsHoverTexture));
+        levelsButton.addListener(new HoverClickListener(levelsButton, game, new LevelsScreen(game), false, false));
 
-        ImageButton loadButton = new ImageButton(new TextureRegionDrawable(loadSavedTexture));
-        loadButton.addListener(new HoverClickListener(loadButton, "LOAD-SAVED.png", "LOAD-SAVED_hover.png", game, null, false, true));
+        ImageButton loadButton = new ImageButton(createButtonStyle(loadSavedTexture, loadSavedHoverTexture));
+        loadButton.addListener(new HoverClickListener(loadButton, game, null, false, true));
 
-        ImageButton exitButton = new ImageButton(new TextureRegionDrawable(exitTexture));
-        exitButton.addListener(new HoverClickListener(exitButton, "exit.png", "exit_hover.png", game, null, true, false));
+        ImageButton exitButton = new ImageButton(createButtonStyle(exitTexture, exitHoverTexture));
+        exitButton.addListener(new HoverClickListener(exitButton, game, null, true, false));
 
         Table table = new Table();
         table.setFillParent(true);
@@ -76,38 +74,40 @@ public class FirstScreen implements Screen {
         stage.addActor(table);
     }
 
+    /**
+     * Build a button style whose up, over and down images are created once per screen
+     * @param normalTexture Image shown at rest
+     * @param hoverTexture Image shown while hovered or pressed
+     * @return Style shared by the button for its whole lifetime
+     */
+    private ImageButton.ImageButtonStyle createButtonStyle(Texture normalTexture, Texture hoverTexture) {
+        ImageButton.ImageButtonStyle style = new ImageButton.ImageButtonStyle();
+        style.imageUp = new TextureRegionDrawable(normalTexture);
+        style.imageOver = new TextureRegionDrawable(hoverTexture);
+        style.imageDown = style.imageOver;
+        return style;
+    }
+
+    /**
+     * Hover and press images come from the button's prebuilt style, so this only handles the click
+     */
     private class HoverClickListener extends ClickListener {
         private final ImageButton button;
-        private final String normalTexturePath;
-        private final String hoverTexturePath;
         private final Game game;
         private final Screen nextScreen;
         private final boolean isExit;
         private final boolean isLoad;
 
-        public HoverClickListener(ImageButton button, String normalTexturePath, String hoverTexturePath, Game game, Screen nextScreen, boolean isExit, boolean isLoad) {
+        public HoverClickListener(ImageButton button, Game game, Screen nextScreen, boolean isExit, boolean isLoad) {
             this.button = button;
-            this.normalTexturePath = normalTexturePath;
-            this.hoverTexturePath = hoverTexturePath;
             this.game = game;
             this.nextScreen = nextScreen;
             this.isExit = isExit;
             this.isLoad = isLoad;
         }
 
-        @Override
-        public void enter(InputEvent event, float x, float y, int pointer, Actor fromActor) {
-            button.getStyle().imageUp = new TextureRegionDrawable(new Texture(Gdx.files.internal(hoverTexturePath)));
-        }
-
-        @Override
-        public void exit(InputEvent event, float x, float y, int pointer, Actor toActor) {
-            button.getStyle().imageUp = new TextureRegionDrawable(new Texture(Gdx.files.internal(normalTexturePath)));
-        }
-
         @Override
         public void clicked(InputEvent event, float x, float y) {
-            button.getStyle().imageUp = new TextureRegionDrawable(new Texture(Gdx.files.internal(hoverTexturePath)));
             button.setTransform(true);
             button.setScale(0.95f);
 
@@ -115,12 +115,10 @@ public class FirstScreen implements Screen {
                 if (nextScreen != null) {
                     game.setScreen(nextScreen);
                 } else if (isExit) {
-                    
                     Gdx.app.exit();
                 } else if (isLoad) {
                     loadSavedGame();
                 }
-                button.getStyle().imageUp = new TextureRegionDrawable(new Texture(Gdx.files.internal(normalTexturePath)));
                 button.setScale(1.0f);
             });
         }
@@ -192,14 +190,8 @@ public class FirstScreen implements Screen {
 
     @Override
     public void dispose() {
-        backgroundTexture.dispose();
-        loadSavedTexture.dispose();
-        exitTexture.dispose();
+        // Textures and music are owned by Assets
         stage.dispose();
         batch.dispose();
-        if (backgroundMusic != null) {
-            backgroundMusic.dispose();
-        }
-
     }
 }
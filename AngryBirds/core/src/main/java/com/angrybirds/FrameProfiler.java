@@ -0,0 +1,259 @@
+package com.angrybirds;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Times the phases of a frame with System.nanoTime and keeps the last WINDOW frames per phase in
+ * ring buffers, so p50, p99 and the maximum can be shown while playing. A phase can be entered
+ * several times per frame, e.g. once per physics step, and its times add up until
+ * {@link #endFrame()}. Recording and the statistics allocate nothing; percentiles are refreshed
+ * a few times a second by sorting a scratch copy of the window.
+ */
+public class FrameProfiler {
+
+    public enum Phase {
+        // Whole render() call
+        FRAME("frame"),
+        // Camera shake and clearing the screen
+        CAMERA("camera"),
+        // Every fixed step of the frame, including the rules below
+        PHYSICS("physics"),
+        // Box2D's world.step alone
+        WORLD_STEP("  box2d"),
+        // Damage, destruction, bird lifecycle and the win/lose check after each step
+        RULES("  rules"),
+        // Ability taps
+        INPUT("input"),
+        // Background, slingshot, birds, pigs and blocks
+        SPRITES("sprites"),
+        // Box2D debug view
+        DEBUG("debug"),
+        // Buttons
+        STAGE("stage");
+
+        final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+    }
+
+    // Frames kept per phase, five seconds at 60 fps
+    public static final int WINDOW = 300;
+    // Frames between two refreshes of the percentiles
+    private static final int STATS_INTERVAL = 15;
+    public static final long FRAME_BUDGET_NANOS = 16_666_667L;
+
+    private static final Phase[] PHASES = Phase.values();
+
+    private final long[] started = new long[PHASES.length];
+    private final long[] current = new long[PHASES.length];
+    private final long[][] samples = new long[PHASES.length][WINDOW];
+    private int frames;
+
+    // Refreshed every STATS_INTERVAL frames
+    private final long[] p50 = new long[PHASES.length];
+    private final long[] p99 = new long[PHASES.length];
+    private final long[] max = new long[PHASES.length];
+    private final long[] scratch = new long[WINDOW];
+    private int overBudget;
+
+    private boolean visible;
+    // Whether the overlay was ever shown; only then is the profile worth writing out
+    private boolean used;
+    private BitmapFont font;
+    private final StringBuilder text = new StringBuilder(512);
+
+    public void begin(Phase phase) {
+        started[phase.ordinal()] = System.nanoTime();
+    }
+
+    public void end(Phase phase) {
+        add(phase, System.nanoTime() - started[phase.ordinal()]);
+    }
+
+    /**
+     * Add time to a phase of the current frame
+     */
+    void add(Phase phase, long nanos) {
+        current[phase.ordinal()] += nanos;
+    }
+
+    /**
+     * Close the current frame and start the next one
+     */
+    public void endFrame() {
+        int slot = frames % WINDOW;
+        for (int i = 0; i < PHASES.length; i++) {
+            samples[i][slot] = current[i];
+            current[i] = 0;
+        }
+        frames++;
+        if (frames % STATS_INTERVAL == 0) {
+            refreshStats();
+        }
+    }
+
+    private void refreshStats() {
+        int count = Math.min(frames, WINDOW);
+        overBudget = 0;
+        for (int i = 0; i < PHASES.length; i++) {
+            System.arraycopy(samples[i], 0, scratch, 0, count);
+            sort(scratch, count);
+            p50[i] = scratch[(count - 1) / 2];
+            p99[i] = scratch[(count - 1) * 99 / 100];
+            max[i] = scratch[count - 1];
+        }
+        long[] frameTimes = samples[Phase.FRAME.ordinal()];
+        for (int i = 0; i < count; i++) {
+            if (frameTimes[i] > FRAME_BUDGET_NANOS) {
+                overBudget++;
+            }
+        }
+        if (visible) {
+            buildText();
+        }
+    }
+
+    private static void sort(long[] values, int count) {
+        // Insertion sort: a few hundred values, in place, no allocation
+        for (int i = 1; i < count; i++) {
+            long value = values[i];
+            int j = i - 1;
+            while (j >= 0 && values[j] > value) {
+                values[j + 1] = values[j];
+                j--;
+            }
+            values[j + 1] = value;
+        }
+    }
+
+    public long getP50(Phase phase) {
+        return p50[phase.ordinal()];
+    }
+
+    public long getP99(Phase phase) {
+        return p99[phase.ordinal()];
+    }
+
+    public long getMax(Phase phase) {
+        return max[phase.ordinal()];
+    }
+
+    /**
+     * @return Frames in the window that took longer than 16.6 ms
+     */
+    public int getFramesOverBudget() {
+        return overBudget;
+    }
+
+    public void toggle() {
+        visible = !visible;
+        used |= visible;
+        if (visible) {
+            buildText();
+        }
+    }
+
+    public boolean isVisible() {
+        return visible;
+    }
+
+    private void buildText() {
+        text.setLength(0);
+        text.append("phase       p50     p99     max   (ms, last ").append(Math.min(frames, WINDOW)).append(" frames)\n");
+        for (int i = 0; i < PHASES.length; i++) {
+            text.append(PHASES[i].label);
+            for (int pad = PHASES[i].label.length(); pad < 8; pad++) {
+                text.append(' ');
+            }
+            appendMillis(p50[i]);
+            appendMillis(p99[i]);
+            appendMillis(max[i]);
+            text.append('\n');
+        }
+        text.append("over 16.6 ms: ").append(overBudget).append(" frames");
+    }
+
+    private void appendMillis(long nanos) {
+        long hundredths = (nanos + 5_000) / 10_000;
+        long whole = hundredths / 100;
+        int fraction = (int) (hundredths % 100);
+        for (long width = whole < 10 ? 1 : whole < 100 ? 2 : 3; width < 5; width++) {
+            text.append(' ');
+        }
+        text.append(whole).append('.');
+        if (fraction < 10) {
+            text.append('0');
+        }
+        text.append(fraction);
+        text.append("  ");
+    }
+
+    /**
+     * Draw the overlay in the top-left corner if it is visible
+     * @param batch Batch projecting screen pixels, not yet begun
+     * @param screenHeight Height of the screen in pixels
+     */
+    public void draw(Batch batch, float screenHeight) {
+        if (!visible) {
+            return;
+        }
+        if (font == null) {
+            font = new BitmapFont();
+            font.setColor(Color.YELLOW);
+        }
+        batch.begin();
+        font.draw(batch, text, 10, screenHeight - 10);
+        batch.end();
+    }
+
+    /**
+     * Write the frames in the window as CSV, one row per frame and one column per phase in
+     * microseconds, oldest frame first
+     */
+    public void writeCsv(FileHandle file) {
+        try (Writer out = file.writer(false, "UTF-8")) {
+            out.write("frame");
+            for (Phase phase : PHASES) {
+                out.write(',');
+                out.write(phase.name().toLowerCase());
+                out.write("_us");
+            }
+            out.write('\n');
+
+            int count = Math.min(frames, WINDOW);
+            for (int frame = frames - count; frame < frames; frame++) {
+                out.write(Integer.toString(frame));
+                for (int i = 0; i < PHASES.length; i++) {
+                    out.write(',');
+                    out.write(Long.toString(samples[i][frame % WINDOW] / 1_000));
+                }
+                out.write('\n');
+            }
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Could not write profile " + file.path(), e);
+        }
+    }
+
+    /**
+     * @return true if the overlay was shown at some point, i.e. someone was profiling
+     */
+    public boolean wasUsed() {
+        return used;
+    }
+
+    public void dispose() {
+        if (font != null) {
+            font.dispose();
+            font = null;
+        }
+    }
+}
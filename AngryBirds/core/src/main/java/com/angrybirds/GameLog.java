@@ -0,0 +1,278 @@
+package com.angrybirds;
+
+import java.io.PrintStream;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Leveled logging for the game loop.
+ * Callers hand over a constant message template plus up to three float or up to three integer
+ * arguments, so counts and step numbers print as integers and stay exact; the entry is
+ * copied into a preallocated ring buffer and a daemon thread formats and prints it later, so the
+ * render thread never concatenates strings or blocks on console I/O. A category whose level is
+ * above the message's level costs one array read. "{}" in a template is replaced by the next
+ * argument. When the buffer is full new entries are dropped and counted instead of waiting.
+ */
+public final class GameLog {
+
+    public enum Category {
+        PHYSICS,
+        DAMAGE,
+        ENTITY,
+        GAME_STATE
+    }
+
+    public enum Level {
+        DEBUG,
+        INFO,
+        WARN,
+        ERROR,
+        OFF
+    }
+
+    // Must be a power of two so the slot index is a mask of the sequence
+    private static final int CAPACITY = 1024;
+    private static final int MASK = CAPACITY - 1;
+    private static final int MAX_ARGS = 3;
+    private static final long IDLE_PARK_NANOS = 2_000_000L;
+
+    private static final Level[] LEVELS = Level.values();
+    private static final Category[] CATEGORIES = Category.values();
+
+    // Minimum level per category, indexed by ordinal. Written by setLevel, usually from the render thread
+    private static final int[] thresholds = new int[CATEGORIES.length];
+
+    // Ring buffer slots, written by producers and read by the drain thread
+    private static final String[] templates = new String[CAPACITY];
+    // Integer arguments as is, float arguments as their raw bits
+    private static final long[] args = new long[CAPACITY * MAX_ARGS];
+    private static final byte[] argCounts = new byte[CAPACITY];
+    private static final boolean[] floatArgs = new boolean[CAPACITY];
+    private static final byte[] categories = new byte[CAPACITY];
+    private static final byte[] levels = new byte[CAPACITY];
+    // Sequence number stored in a slot once its entry is fully written
+    private static final AtomicLongArray published = new AtomicLongArray(CAPACITY);
+
+    private static final AtomicLong claimed = new AtomicLong();
+    private static final AtomicLong consumed = new AtomicLong();
+    private static final AtomicLong dropped = new AtomicLong();
+
+    private static final StringBuilder line = new StringBuilder(256);
+    // Drops already reported by drain(), only touched by the consumer
+    private static long reportedDrops;
+    private static volatile Thread drainThread;
+
+    static {
+        for (int i = 0; i < CAPACITY; i++) {
+            published.set(i, -1L);
+        }
+        // Defaults can be overridden at launch, e.g. -Dangrybirds.log.DAMAGE=DEBUG
+        for (Category category : CATEGORIES) {
+            String configured = System.getProperty("angrybirds.log." + category.name());
+            Level level = Level.INFO;
+            if (configured != null) {
+                try {
+                    level = Level.valueOf(configured.trim().toUpperCase(Locale.ROOT));
+                } catch (IllegalArgumentException ignored) {
+                    // Unknown level names keep the default
+                }
+            }
+            thresholds[category.ordinal()] = level.ordinal();
+        }
+    }
+
+    private GameLog() {}
+
+    /**
+     * Change how chatty a category is; takes effect for the next message
+     * @param category Category to configure
+     * @param level Lowest level that is still recorded, or OFF
+     */
+    public static void setLevel(Category category, Level level) {
+        thresholds[category.ordinal()] = level.ordinal();
+    }
+
+    public static Level getLevel(Category category) {
+        return LEVELS[thresholds[category.ordinal()]];
+    }
+
+    public static boolean isEnabled(Category category, Level level) {
+        return level.ordinal() >= thresholds[category.ordinal()];
+    }
+
+    public static void debug(Category category, String template) {
+        log(category, Level.DEBUG, template, 0, false, 0L, 0L, 0L);
+    }
+
+    public static void debug(Category category, String template, float a) {
+        log(category, Level.DEBUG, template, 1, true, bits(a), 0L, 0L);
+    }
+
+    public static void debug(Category category, String template, float a, float b) {
+        log(category, Level.DEBUG, template, 2, true, bits(a), bits(b), 0L);
+    }
+
+    public static void debug(Category category, String template, float a, float b, float c) {
+        log(category, Level.DEBUG, template, 3, true, bits(a), bits(b), bits(c));
+    }
+
+    public static void debug(Category category, String template, long a) {
+        log(category, Level.DEBUG, template, 1, false, a, 0L, 0L);
+    }
+
+    public static void debug(Category category, String template, long a, long b) {
+        log(category, Level.DEBUG, template, 2, false, a, b, 0L);
+    }
+
+    public static void debug(Category category, String template, long a, long b, long c) {
+        log(category, Level.DEBUG, template, 3, false, a, b, c);
+    }
+
+    public static void info(Category category, String template) {
+        log(category, Level.INFO, template, 0, false, 0L, 0L, 0L);
+    }
+
+    public static void info(Category category, String template, float a) {
+        log(category, Level.INFO, template, 1, true, bits(a), 0L, 0L);
+    }
+
+    public static void info(Category category, String template, float a, float b) {
+        log(category, Level.INFO, template, 2, true, bits(a), bits(b), 0L);
+    }
+
+    public static void info(Category category, String template, long a) {
+        log(category, Level.INFO, template, 1, false, a, 0L, 0L);
+    }
+
+    public static void info(Category category, String template, long a, long b) {
+        log(category, Level.INFO, template, 2, false, a, b, 0L);
+    }
+
+    public static void warn(Category category, String template) {
+        log(category, Level.WARN, template, 0, false, 0L, 0L, 0L);
+    }
+
+    public static void warn(Category category, String template, long a) {
+        log(category, Level.WARN, template, 1, false, a, 0L, 0L);
+    }
+
+    public static void error(Category category, String template) {
+        log(category, Level.ERROR, template, 0, false, 0L, 0L, 0L);
+    }
+
+    private static long bits(float value) {
+        return Float.floatToRawIntBits(value);
+    }
+
+    private static void log(Category category, Level level, String template, int argCount, boolean floats,
+                            long a, long b, long c) {
+        if (level.ordinal() < thresholds[category.ordinal()]) {
+            return;
+        }
+
+        // Claim a sequence number, giving up rather than blocking when the drain thread is behind
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence - consumed.get() >= CAPACITY) {
+                dropped.incrementAndGet();
+                return;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+
+        int slot = (int) (sequence & MASK);
+        templates[slot] = template;
+        argCounts[slot] = (byte) argCount;
+        floatArgs[slot] = floats;
+        categories[slot] = (byte) category.ordinal();
+        levels[slot] = (byte) level.ordinal();
+        args[slot * MAX_ARGS] = a;
+        args[slot * MAX_ARGS + 1] = b;
+        args[slot * MAX_ARGS + 2] = c;
+        published.lazySet(slot, sequence);
+
+        if (drainThread == null) {
+            startDrainThread();
+        }
+    }
+
+    private static synchronized void startDrainThread() {
+        if (drainThread != null) {
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            while (true) {
+                if (drain(System.out) == 0) {
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                }
+            }
+        }, "GameLog-drain");
+        thread.setDaemon(true);
+        drainThread = thread;
+        thread.start();
+    }
+
+    /**
+     * Print everything queued so far on the calling thread, e.g. before the game exits
+     */
+    public static void flush() {
+        drain(System.out);
+        System.out.flush();
+    }
+
+    public static long getDroppedCount() {
+        return dropped.get();
+    }
+
+    // Single consumer at a time: the drain thread, or flush() on shutdown
+    private static synchronized int drain(PrintStream out) {
+        int printed = 0;
+        long sequence = consumed.get();
+        while (true) {
+            int slot = (int) (sequence & MASK);
+            if (published.get(slot) != sequence) {
+                break;
+            }
+            format(slot);
+            templates[slot] = null;
+            sequence++;
+            consumed.lazySet(sequence);
+            out.println(line);
+            printed++;
+        }
+
+        long lost = dropped.get() - reportedDrops;
+        if (lost > 0) {
+            reportedDrops += lost;
+            out.println("[WARN] [LOG] " + lost + " log entries dropped");
+        }
+        return printed;
+    }
+
+    private static void format(int slot) {
+        line.setLength(0);
+        line.append('[').append(LEVELS[levels[slot]]).append("] [")
+            .append(CATEGORIES[categories[slot]]).append("] ");
+
+        String template = templates[slot];
+        int argCount = argCounts[slot];
+        boolean floats = floatArgs[slot];
+        int next = 0;
+        int start = 0;
+        int marker;
+        while (next < argCount && (marker = template.indexOf("{}", start)) >= 0) {
+            line.append(template, start, marker);
+            long arg = args[slot * MAX_ARGS + next];
+            if (floats) {
+                line.append(Float.intBitsToFloat((int) arg));
+            } else {
+                line.append(arg);
+            }
+            next++;
+            start = marker + 2;
+        }
+        line.append(template, start, template.length());
+    }
+}
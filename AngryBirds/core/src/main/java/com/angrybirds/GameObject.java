@@ -7,6 +7,19 @@ import com.badlogic.gdx.physics.box2d.*;
 
 public interface GameObject {
     void draw(Batch batch);
+
+    /**
+     * Draw the object between its previous and current physics transform
+     * @param batch Batch to draw into
+     * @param alpha Fraction of a physics step elapsed since the last step, in [0, 1]
+     */
+    void draw(Batch batch, float alpha);
+
+    /**
+     * Remember the current body transform; called right before every physics step
+     */
+    void captureTransform();
+
     void dispose();
 
 
@@ -2,60 +2,62 @@ package com.angrybirds;
 
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.InputAdapter;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.Group;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.ImageButton;
-import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
-import com.badlogic.gdx.physics.box2d.*;
-import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.SnapshotArray;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.LinkedList;
 import java.util.List;
 
 import com.badlogic.gdx.InputMultiplexer;
 
-public class GameScreen implements Screen {
-    private World world;
-    private Box2DDebugRenderer debugRenderer;
+public class GameScreen implements Screen, SimulationListener {
+    // Physics debug view, off unless turned on with F4 or the launch flag
+    private final DebugOverlay debugOverlay = DebugOverlay.fromLaunchFlags();
     private Game game;
     private int level;
     private Stage stage;
-    private Skin skin;
     private Texture backgroundTexture;
     private SpriteBatch batch;
     private Slingshot slingshot;
-    private GameObject[] structures;
-    private GameObject[] pigs;
-    private Bird[] birds;
     private OrthographicCamera camera;
-    private PhysicsManager physicsManager;
-    private List<Bird> activeBirds = new ArrayList<>();
+    // World, entities and rules; created in show() so constructing the screen needs no natives
+    private GameSimulation simulation;
+    private InputMultiplexer inputMultiplexer;
+    // Inputs since the level was shown, restarts included, saved when it ends so the run can be reproduced
+    private Replay replay;
+    // Set while a pause or lose screen is up that may come back here, so hide() keeps everything
+    private boolean suspended = false;
     private Vector3 originalCameraPosition;
-    private List<Structure> structuresToDestroy = new ArrayList<>();
-    private List<Pig> pigsToDestroy = new ArrayList<>();
+    // Camera position before this frame's shake
+    private final Vector3 cameraPosition = new Vector3();
+    // Per-phase frame timings; F3 shows them
+    private final FrameProfiler profiler = new FrameProfiler();
     private boolean gamePaused = false;
 
     private static final float SLINGSHOT_SCALE = 0.5f;
-    private static final float BIRD_SCALE = 0.05f;
-    private static final float BLACK_BIRD_SCALE = 0.08f;
-    private static final float STRUCTURE_SCALE = 1f;
-    private static final float YELLOW_BIRD_SCALE = 0.1f;
-    public static final float PPM = 100.0f;
-    private static final float MINIMUM_BIRD_VELOCITY = 0.1f;
-    private static final float PIG_SCALE = 0.5f;
+    public static final float PPM = GameSimulation.PPM;
+    private static final String REPLAY_FOLDER = "replays/";
+    // Every drag event is recorded, so make room for a long level of fast mouse input up front
+    private static final int REPLAY_CAPACITY = 1 << 14;
+    private static final String PROFILE_FILE = "profile/frames.csv";
 
     private Texture pauseButtonTexture;
     private Texture pauseButtonHoverTexture;
@@ -68,8 +70,6 @@ public class GameScreen implements Screen {
     private ImageButton giveUpButton;
     private ImageButton endLevelButton;
 
-    private float platformY;
-
     public GameScreen(Game game, int level) {
         this.game = game;
         this.level = level;
@@ -77,30 +77,33 @@ public class GameScreen implements Screen {
 
     @Override
     public void show() {
+        if (simulation != null) {
+            // Coming back from a pause or lose screen: everything is still loaded
+            suspended = false;
+            Gdx.input.setInputProcessor(inputMultiplexer);
+            backgroundMusic.play();
+            return;
+        }
+
         camera = new OrthographicCamera();
         camera.setToOrtho(false, 640, 480);
         stage = new Stage(new ScreenViewport());
         batch = new SpriteBatch();
         Gdx.input.setInputProcessor(stage);
-        skin = new Skin(Gdx.files.internal("uiskin.json"));
 
-        world = new World(new Vector2(0, -9.8f), true);
-        physicsManager = new PhysicsManager(world);
-        debugRenderer = new Box2DDebugRenderer();
+        simulation = new GameSimulation(LevelLoader.load(level), MathUtils.random.nextLong());
+        startRecording();
+        simulation.addListener(this);
+        simulation.setProfiler(profiler);
 
-        backgroundMusic = Gdx.audio.newMusic(Gdx.files.internal("level1_sound.mp3"));
+        backgroundMusic = Assets.music("level1_sound.mp3");
         backgroundMusic.setLooping(true); // Loop the music
         backgroundMusic.play();
 
-        createGround();
-
         createBackgroundForLevel();
-        createBirdsForLevel();
-        createStructuresForLevel();
         createSlingshot();
 
         createPauseButton();
-        setupCollisionHandler();
         setupInputProcessor();
         createGiveUpAndEndLevelButtons();
     }
@@ -114,10 +117,10 @@ public class GameScreen implements Screen {
 
     private void createGiveUpAndEndLevelButtons() {
 
-        giveUpTexture = new Texture(Gdx.files.internal("give_up_button.png"));
-        giveUpHoverTexture = new Texture(Gdx.files.internal("give_up_button_hover.png"));
-        endLevelTexture = new Texture(Gdx.files.internal("end_level_button.png"));
-        endLevelHoverTexture = new Texture(Gdx.files.internal("end_level_button_hover.png"));
+        giveUpTexture = Assets.texture("give_up_button.png");
+        giveUpHoverTexture = Assets.texture("give_up_button_hover.png");
+        endLevelTexture = Assets.texture("end_level_button.png");
+        endLevelHoverTexture = Assets.texture("end_level_button_hover.png");
 
         // Create Give Up button
         TextureRegionDrawable giveUpNormal = new TextureRegionDrawable(giveUpTexture);
@@ -126,7 +129,7 @@ public class GameScreen implements Screen {
         giveUpButton.addListener(new ClickListener() {
             @Override
             public void clicked(InputEvent event, float x, float y) {
-                game.setScreen(new LoseScreen(game, level));
+                suspendTo(new LoseScreen(game, level, GameScreen.this));
             }
         });
 
@@ -162,9 +165,9 @@ public class GameScreen implements Screen {
     }
 
     private void createPauseButton() {
-        pauseButtonTexture = new Texture(Gdx.files.internal("pause.png"));
-        pauseButtonHoverTexture = new Texture(Gdx.files.internal("pause_hover.png"));
-        pauseButtonPressedTexture = new Texture(Gdx.files.internal("pause_pressed.png"));
+        pauseButtonTexture = Assets.texture("pause.png");
+        pauseButtonHoverTexture = Assets.texture("pause_hover.png");
+        pauseButtonPressedTexture = Assets.texture("pause_pressed.png");
 
         TextureRegionDrawable normalDrawable = new TextureRegionDrawable(pauseButtonTexture);
         TextureRegionDrawable hoverDrawable = new TextureRegionDrawable(pauseButtonHoverTexture);
@@ -174,7 +177,7 @@ public class GameScreen implements Screen {
         pauseButton.addListener(new ClickListener() {
             @Override
             public void clicked(com.badlogic.gdx.scenes.scene2d.InputEvent event, float x, float y) {
-                game.setScreen(new PauseScreen(game, level, GameScreen.this));
+                suspendTo(new PauseScreen(game, level, GameScreen.this));
             }
         });
 
@@ -187,23 +190,16 @@ public class GameScreen implements Screen {
         stage.addActor(pauseTable);
     }
 
-    private void createGround() {
-        float platformWidth = 1600; // Increased platform width
-        float platformHeight = 10 / PPM;
-        platformY = 460 / PPM;
-        createBox(platformWidth / 2, platformY, platformWidth, platformHeight, false);
-    }
-
     public int getLevel() {
         return this.level;
     }
 
-    public GameObject[] getStructures() {
-        return this.structures;
+    public EntityRegistry<Structure> getStructures() {
+        return simulation.getStructures();
     }
 
     public Bird[] getBirds() {
-        return this.birds;
+        return simulation.getBirds();
     }
 
     public int getSlingshotCurrentBirdIndex() {
@@ -219,107 +215,81 @@ public class GameScreen implements Screen {
         return camera.position.y;
     }
 
-    private Body createBox(float x, float y, float width, float height, boolean isDynamic) {
-        BodyDef bodyDef = new BodyDef();
-        bodyDef.type = isDynamic ? BodyDef.BodyType.DynamicBody : BodyDef.BodyType.StaticBody;
-        bodyDef.position.set(x, y);
-
-        Body body = world.createBody(bodyDef);
-
-        PolygonShape shape = new PolygonShape();
-        shape.setAsBox(width / 2, height / 2);
-
-        FixtureDef fixtureDef = new FixtureDef();
-        fixtureDef.shape = shape;
-        fixtureDef.density = isDynamic ? 1f : 0f;
-        fixtureDef.friction = 2f;
-
-        body.createFixture(fixtureDef);
-        shape.dispose();
-
-        return body;
-    }
-
     private void createSlingshot() {
-        LinkedList<Bird> birdQueue = new LinkedList<>(Arrays.asList(birds));
-        slingshot = new Slingshot(world, "slingshot.png","angry-birds-slingshot.mp3", 250, 450, 0.3f, birdQueue, camera);
+        slingshot = new Slingshot(simulation, "slingshot.png","angry-birds-slingshot.mp3", 250, 450, 0.3f, camera);
     }
 
 
     private void setupInputProcessor() {
-        InputMultiplexer inputMultiplexer = new InputMultiplexer();
+        inputMultiplexer = new InputMultiplexer();
         inputMultiplexer.addProcessor(stage);
+        inputMultiplexer.addProcessor(new InputAdapter() {
+            @Override
+            public boolean keyDown(int keycode) {
+                if (keycode == Input.Keys.F3) {
+                    profiler.toggle();
+                    return true;
+                }
+                return debugOverlay.keyDown(keycode);
+            }
+        });
         inputMultiplexer.addProcessor(slingshot.getInputProcessor());
         Gdx.input.setInputProcessor(inputMultiplexer);
     }
 
-    private void checkGameState() {
-        // Defensive null checks
-        if (pigs == null || slingshot == null || birds == null || activeBirds == null) {
-            return; // Or handle this error appropriately
-        }
-
-        boolean allPigsDestroyed = true;
-        boolean anyPigsRemaining = false;
-        for (GameObject pigObject : pigs) {
-            if (pigObject == null) continue; // Skip null objects
+    private void startRecording() {
+        replay = new Replay(level, simulation.getSeed(), REPLAY_CAPACITY);
+        simulation.setRecorder(replay);
+        simulation.setWorldWidth(camera.viewportWidth);
+    }
 
-            if (pigObject instanceof Pig pig) {
-                if (pig != null && !pig.isDestroyed()) {
-                    allPigsDestroyed = false;
-                    anyPigsRemaining = true;
-                }
-            }
+    private void saveReplay() {
+        try {
+            replay.write(Gdx.files.local(REPLAY_FOLDER + "level" + level + ".replay"));
+        } catch (GdxRuntimeException e) {
+            GameLog.warn(GameLog.Category.GAME_STATE, "Could not save the replay");
         }
+    }
 
-        // Null-safe bird checks
-//        boolean allBirdsUsed = slingshot.getCurrentBirdIndex() >= birds.length;
-        boolean allBirdsInactive = true;
-
-        // Check if all active birds are out of play
-        if (activeBirds != null) {
-            for (Bird bird : birds) {
-                if (bird != null && !bird.isDisposed()) {
-                    allBirdsInactive = false;
-                    break;
-                }
-            }
+    private void saveProfile() {
+        // Only worth keeping when someone had the overlay up
+        if (!profiler.wasUsed()) {
+            return;
         }
-
-        // Null-safe current bird check
-//        Bird currentBird = slingshot.getCurrentBird();
-//        boolean currentBirdUnusable = currentBird == null ||
-//            (currentBird.getBody() == null) ||
-//            (currentBird.getBody().getType() != BodyDef.BodyType.DynamicBody);
-
-        // Win condition
-
-        if (allPigsDestroyed) {
-            if (game != null) {
-                System.out.println("redirected to win screen");
-                giveUpButton.setVisible(false);
-                endLevelButton.setVisible(true);
-            }
+        GameLog.info(GameLog.Category.GAME_STATE, "Frame p50 {} ms", profiler.getP50(FrameProfiler.Phase.FRAME) / 1_000_000f);
+        GameLog.info(GameLog.Category.GAME_STATE, "Frame p99 {} ms", profiler.getP99(FrameProfiler.Phase.FRAME) / 1_000_000f);
+        GameLog.info(GameLog.Category.GAME_STATE, "Frame max {} ms", profiler.getMax(FrameProfiler.Phase.FRAME) / 1_000_000f);
+        try {
+            profiler.writeCsv(Gdx.files.local(PROFILE_FILE));
+        } catch (GdxRuntimeException e) {
+            GameLog.warn(GameLog.Category.GAME_STATE, "Could not save the frame profile");
         }
+    }
 
-        // Lose condition
-        else if ((allBirdsInactive && anyPigsRemaining) ) {
-            if (game != null) {
-                System.out.println("redirected to lose screen");
-                giveUpButton.setVisible(true);
-                endLevelButton.setVisible(false);
-            }
-        }
+    @Override
+    public void onLevelWon() {
+        saveReplay();
+        GameLog.info(GameLog.Category.GAME_STATE, "redirected to win screen");
+        giveUpButton.setVisible(false);
+        endLevelButton.setVisible(true);
     }
 
     @Override
-    public void render(float delta) {
-        Vector3 originalCameraPosition = new Vector3(camera.position);
+    public void onLevelLost() {
+        saveReplay();
+        GameLog.info(GameLog.Category.GAME_STATE, "redirected to lose screen");
+        giveUpButton.setVisible(true);
+        endLevelButton.setVisible(false);
+    }
 
-        camera.position.set(originalCameraPosition);
+    @Override
+    public void render(float delta) {
+        profiler.begin(FrameProfiler.Phase.FRAME);
+        profiler.begin(FrameProfiler.Phase.CAMERA);
+        cameraPosition.set(camera.position);
 
         // Apply shake if current bird is a BlackBird
-        Bird currentBird = slingshot.getCurrentBird();
+        Bird currentBird = simulation.getCurrentBird();
         if (currentBird instanceof BlackBird blackBird) {
             if (blackBird.isShaking()) {
                 // Apply random shake offset
@@ -337,18 +307,20 @@ public class GameScreen implements Screen {
 
         Gdx.gl.glClearColor(0, 0, 0, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        profiler.end(FrameProfiler.Phase.CAMERA);
 
-        processPigDestruction();
-        processStructureDestruction();
-
-        checkGameState();
-        world.step(1/60f, 8, 3);
+        profiler.begin(FrameProfiler.Phase.PHYSICS);
+        float alpha = simulation.advance(delta);
+        profiler.end(FrameProfiler.Phase.PHYSICS);
 
         // Handle special ability input for the current bird
-        handleSpecialAbilityInput();
-
-        checkBirdStateAndLaunchNext();
+        profiler.begin(FrameProfiler.Phase.INPUT);
+        if (Gdx.input.justTouched()) {
+            simulation.activateAbility();
+        }
+        profiler.end(FrameProfiler.Phase.INPUT);
 
+        profiler.begin(FrameProfiler.Phase.SPRITES);
         camera.update();
         batch.setProjectionMatrix(camera.combined);
 
@@ -362,545 +334,142 @@ public class GameScreen implements Screen {
         slingshot.draw(batch, slingshotXOffset, slingshotYOffset);
 
         // Update and render all active birds
-        updateAndRenderBirds(delta);
-        renderPigs(batch);
-        renderStructures(batch);
+        updateAndRenderBirds(alpha);
+        renderPigs(batch, alpha);
+        renderStructures(batch, alpha);
+        simulation.getDebris().draw(batch, alpha);
 
         batch.end();
+        profiler.end(FrameProfiler.Phase.SPRITES);
+
+        profiler.begin(FrameProfiler.Phase.DEBUG);
+        debugOverlay.draw(batch, simulation.getWorld());
+        profiler.end(FrameProfiler.Phase.DEBUG);
 
-        debugRenderer.render(world, camera.combined);
+        profiler.begin(FrameProfiler.Phase.STAGE);
         stage.act(delta);
         stage.draw();
+        profiler.end(FrameProfiler.Phase.STAGE);
 
         // Optional: Ensure camera returns to original position after rendering
-        camera.position.set(originalCameraPosition);
+        camera.position.set(cameraPosition);
         camera.update();
-    }
-    public void simulatePauseButtonClick() {
-        game.setScreen(new PauseScreen(game, level, this));
-    }
 
-    public void simulateGiveUpButtonClick() {
-        game.setScreen(new LoseScreen(game, level));
-    }
+        // While the world rests and no widget animates, only input needs a new frame; libGDX requests one for each event
+        Gdx.graphics.setContinuousRendering(!simulation.isSettled() || hasActions(stage.getRoot()));
 
-    public void simulateEndLevelButtonClick() {
-        game.setScreen(new WinScreen(game, level));
-    }
-
-    private void handleSpecialAbilityInput() {
-        Bird currentBird = slingshot.getCurrentBird();
-        if (currentBird != null && isBirdInAir(currentBird)) {
-            // Check for touch input to activate special ability
-            if (Gdx.input.justTouched()) {
-                activateSpecialAbility(currentBird);
-            }
-        }
-    }
-
-    private boolean isBirdInAir(Bird bird) {
-        // Check if the bird is in the air by verifying its velocity
-        return bird.getBody().getType() == BodyDef.BodyType.DynamicBody &&
-            Math.abs(bird.getBody().getLinearVelocity().y) > 0.1f;
-    }
-
-    private void activateSpecialAbility(Bird bird) {
-        if (bird instanceof YellowBird yellowBird) {
-            if (!yellowBird.isSpecialAbilityActivated()) {
-                yellowBird.specialAbility();
-            }
-        } else if (bird instanceof BlueBird blueBird) {
-            if (!blueBird.isSpecialAbilityActivated()) {
-                Bird[] newBirds = blueBird.specialAbility();
-                // Add new birds to the active birds list
-                activeBirds.addAll(Arrays.asList(newBirds));
-            }
-        } else if (bird instanceof BlackBird blackBird) {
-            if (!blackBird.isSpecialAbilityActivated()) {
-                blackBird.specialAbility();  // Pass the world here
-            }
-        }
+        profiler.end(FrameProfiler.Phase.FRAME);
+        profiler.endFrame();
+        batch.setProjectionMatrix(stage.getCamera().combined);
+        profiler.draw(batch, stage.getViewport().getWorldHeight());
     }
 
-    private void updateAndRenderBirds(float delta) {
-        // Create a copy of the active birds list to safely modify during iteration
-        List<Bird> birdsToRender = new ArrayList<>(activeBirds);
-
-        // Include the current bird from the slingshot
-        Bird currentBird = slingshot.getCurrentBird();
-        if (currentBird != null && !birdsToRender.contains(currentBird)) {
-            birdsToRender.add(currentBird);
+    private static boolean hasActions(Actor actor) {
+        if (actor.hasActions()) {
+            return true;
         }
-
-        // Update and render birds
-        for (Bird bird : new ArrayList<>(birdsToRender)) {
-            if (!bird.isDisposed()) {
-                bird.draw(batch);
-            }
-
-            // Remove birds that are out of bounds
-            if (isBirdOutOfBounds(bird)) {
-                bird.dispose();
-                activeBirds.remove(bird);
-            }
-        }
-    }
-
-    private boolean isBirdOutOfBounds(Bird bird) {
-        Vector2 position = bird.getBody().getPosition();
-        return position.x > camera.viewportWidth / PPM ||
-            position.y < 0 ||
-            position.x < 0;
-    }
-
-    private void checkBirdStateAndLaunchNext() {
-        Bird currentBird = slingshot.getCurrentBird();
-        if (currentBird != null && currentBird.getBody().getType() == BodyDef.BodyType.DynamicBody) {
-            Vector2 position = currentBird.getBody().getPosition();
-            Vector2 velocity = currentBird.getBody().getLinearVelocity();
-
-            // Remove bird and launch next if:
-            // 1. Bird is off-screen horizontally or vertically
-            // 2. Bird's velocity is very low
-            boolean isOffScreen = position.x > camera.viewportWidth / PPM ||
-                position.y < 0 ||
-                position.x < 0;
-            boolean isSlowMoving = Math.abs(velocity.x) < MINIMUM_BIRD_VELOCITY &&
-                Math.abs(velocity.y) < MINIMUM_BIRD_VELOCITY;
-
-            if (isOffScreen || isSlowMoving) {
-                // If the current bird is a BlueBird that has activated its special ability,
-                // dispose of all additional birds as well
-                if (currentBird instanceof BlueBird blueBird && blueBird.isSpecialAbilityActivated()) {
-                    // Dispose of the original bird and its additional birds
-
-                    currentBird.dispose();
-
-                    // Remove the bird from active birds list
-                    activeBirds.remove(currentBird);
-                } else {
-                    // For other bird types, just dispose of the current bird
-                    currentBird.dispose();
+        if (actor instanceof Group group) {
+            SnapshotArray<Actor> children = group.getChildren();
+            for (int i = 0; i < children.size; i++) {
+                if (hasActions(children.get(i))) {
+                    return true;
                 }
-
-                // Load the next bird
-                slingshot.update();
             }
-
         }
+        return false;
     }
 
-    private void renderPigs(SpriteBatch batch){
-        for(GameObject gameObject : pigs){
-            if(gameObject instanceof Pig){
-                ((Pig)gameObject).draw(batch);
-            }
-        }
+    public void simulatePauseButtonClick() {
+        suspendTo(new PauseScreen(game, level, this));
     }
 
-    private void renderStructures(SpriteBatch batch) {
-        for (GameObject gameObject : structures) {
-            if (gameObject instanceof Structure) {
-                ((Structure) gameObject).update();
-            }
-            gameObject.draw(batch);
-        }
+    public void simulateGiveUpButtonClick() {
+        suspendTo(new LoseScreen(game, level, this));
     }
 
-    private void createBackgroundForLevel() {
-        if (backgroundTexture != null) backgroundTexture.dispose();
+    private void suspendTo(Screen screen) {
+        suspended = true;
+        game.setScreen(screen);
+    }
 
-        switch (level) {
-            case 1:
-                backgroundTexture = new Texture(Gdx.files.internal("game_screen_bg_level1.png"));
-                break;
-            case 2:
-                backgroundTexture = new Texture(Gdx.files.internal("game_screen_bg_level2.png"));
-                break;
-            case 3:
-                backgroundTexture = new Texture(Gdx.files.internal("game_screen_bg_level3.png"));
-                break;
-            default:
-                backgroundTexture = new Texture(Gdx.files.internal("game_screen_bg.png"));
+    /**
+     * Start the level over without rebuilding the screen. The world is restored in place from the
+     * snapshot taken at setup, so no texture, sound or widget is created or loaded again.
+     */
+    public void restart() {
+        if (simulation == null) {
+            return; // Never shown, so show() will set the level up from scratch anyway
         }
+        long start = System.nanoTime();
+        // The recording carries on, since a replay has to restart at the same point to match
+        simulation.restart();
+        slingshot.cancelDrag();
+        giveUpButton.setVisible(false);
+        endLevelButton.setVisible(false);
+        GameLog.info(GameLog.Category.GAME_STATE, "Level restarted in {} ms", (System.nanoTime() - start) / 1_000_000f);
     }
 
-    private float calculateDamage(float impactSpeed) {
-        // More nuanced damage calculation based on impact speed
-        // Adjust these values to balance the game
-        float baseDamage = 10f;
-        float speedMultiplier = 0.75f;
-        float calculatedDamage = baseDamage + (impactSpeed * speedMultiplier);
-
-        System.out.println("Impact Speed: " + impactSpeed +
-            ", Calculated Damage: " + calculatedDamage);
-
-        return calculatedDamage;
+    public void simulateEndLevelButtonClick() {
+        game.setScreen(new WinScreen(game, level));
     }
 
-    private void setupCollisionHandler() {
-        world.setContactListener(new ContactListener() {
-            @Override
-            public void beginContact(Contact contact) {
-                Fixture fixtureA = contact.getFixtureA();
-                Fixture fixtureB = contact.getFixtureB();
-
-                Body bodyA = fixtureA.getBody();
-                Body bodyB = fixtureB.getBody();
-
-                Object userDataA = bodyA.getUserData();
-                Object userDataB = bodyB.getUserData();
-
-                // Process collisions for Level 1
-                if (level == 1) {
-                    // Collision between Bird and Structure
-                    if ((userDataA instanceof Bird && userDataB instanceof Structure) ||
-                        (userDataA instanceof Structure && userDataB instanceof Bird)) {
-
-                        Bird bird = (userDataA instanceof Bird) ? (Bird)userDataA : (Bird)userDataB;
-                        Structure structure = (userDataA instanceof Structure) ? (Structure)userDataA : (Structure)userDataB;
-
-                        Vector2 velocity = bodyA == bird.getBody() ? bodyA.getLinearVelocity() : bodyB.getLinearVelocity();
-                        float impactSpeed = velocity.len();
-
-                        float damage = calculateDamage(impactSpeed);
-                        structure.applyDamage(damage);
-
-                        System.out.println("Bird Impact Details:");
-                        System.out.println("Velocity: " + velocity);
-                        System.out.println("Impact Speed: " + impactSpeed);
-                        printStructureHealth(structure);
-
-                        if (structure.isDestroyed()) {
-                            structuresToDestroy.add(structure);
-                        }
-                    }
-
-                    // Bird and Pig collision
-                    else if ((userDataA instanceof Bird && userDataB instanceof Pig) ||
-                        (userDataA instanceof Pig && userDataB instanceof Bird)) {
-
-                        Bird bird = (userDataA instanceof Bird) ? (Bird)userDataA : (Bird)userDataB;
-                        Pig pig = (userDataA instanceof Pig) ? (Pig)userDataA : (Pig)userDataB;
-
-                        Vector2 velocity = bodyA == bird.getBody() ? bodyA.getLinearVelocity() : bodyB.getLinearVelocity();
-                        float impactSpeed = velocity.len();
-
-                        float damage = calculateDamage(impactSpeed);
-                        pig.applyDamage(damage);
-
-                        System.out.println("Bird-Pig Impact Details:");
-                        System.out.println("Velocity: " + velocity);
-                        System.out.println("Impact Speed: " + impactSpeed);
-                        System.out.println("Pig Health: " + pig.getHealth() + " / " + pig.getMaxHealth());
-
-                        if (pig.isDestroyed()) {
-                            // Queue pig for removal
-                            pigsToDestroy.add(pig);
-                        }
-                    }
-                }
-
-                else if (level == 2) {
-                    if ((userDataA instanceof Bird && userDataB instanceof Structure) ||
-                        (userDataA instanceof Structure && userDataB instanceof Bird)) {
-
-                        Bird bird = (userDataA instanceof Bird) ? (Bird)userDataA : (Bird)userDataB;
-                        Structure structure = (userDataA instanceof Structure) ? (Structure)userDataA : (Structure)userDataB;
-
-                        Vector2 velocity = bodyA == bird.getBody() ? bodyA.getLinearVelocity() : bodyB.getLinearVelocity();
-                        float impactSpeed = velocity.len();
-
-                        float damage = calculateDamage(impactSpeed);
-                        structure.applyDamage(damage);
-
-                        System.out.println("Bird Impact Details:");
-                        System.out.println("Velocity: " + velocity);
-                        System.out.println("Impact Speed: " + impactSpeed);
-                        printStructureHealth(structure);
-
-                        if (structure.isDestroyed()) {
-                            structuresToDestroy.add(structure);
-                        }
-                    }
-
-                    // Bird and Pig collision
-                    else if ((userDataA instanceof Bird && userDataB instanceof Pig) ||
-                        (userDataA instanceof Pig && userDataB instanceof Bird)) {
-
-                        Bird bird = (userDataA instanceof Bird) ? (Bird)userDataA : (Bird)userDataB;
-                        Pig pig = (userDataA instanceof Pig) ? (Pig)userDataA : (Pig)userDataB;
-
-                        Vector2 velocity = bodyA == bird.getBody() ? bodyA.getLinearVelocity() : bodyB.getLinearVelocity();
-                        float impactSpeed = velocity.len();
-
-                        float damage = calculateDamage(impactSpeed);
-                        pig.applyDamage(damage);
-
-                        System.out.println("Bird-Pig Impact Details:");
-                        System.out.println("Velocity: " + velocity);
-                        System.out.println("Impact Speed: " + impactSpeed);
-                        System.out.println("Pig Health: " + pig.getHealth() + " / " + pig.getMaxHealth());
-
-                        if (pig.getHealth() <= 0 && !pig.isDestroyed()) {
-                            System.out.println("Pig is being destroyed!");
-                            pigsToDestroy.add(pig);
-                        }
-                    }
-                }
-
-                else if (level == 3) {
-                    if ((userDataA instanceof Bird && userDataB instanceof Structure) ||
-                        (userDataA instanceof Structure && userDataB instanceof Bird)) {
-
-                        Bird bird = (userDataA instanceof Bird) ? (Bird)userDataA : (Bird)userDataB;
-                        Structure structure = (userDataA instanceof Structure) ? (Structure)userDataA : (Structure)userDataB;
-
-                        Vector2 velocity = bodyA == bird.getBody() ? bodyA.getLinearVelocity() : bodyB.getLinearVelocity();
-                        float impactSpeed = velocity.len();
-
-                        float damage = calculateDamage(impactSpeed);
-                        structure.applyDamage(damage);
-
-                        System.out.println("Bird Impact Details:");
-                        System.out.println("Velocity: " + velocity);
-                        System.out.println("Impact Speed: " + impactSpeed);
-                        printStructureHealth(structure);
-
-                        if (structure.isDestroyed()) {
-                            structuresToDestroy.add(structure);
-                        }
-                    }
-
-                    // Bird and Pig collision
-                    else if ((userDataA instanceof Bird && userDataB instanceof Pig) ||
-                        (userDataA instanceof Pig && userDataB instanceof Bird)) {
-
-                        Bird bird = (userDataA instanceof Bird) ? (Bird)userDataA : (Bird)userDataB;
-                        Pig pig = (userDataA instanceof Pig) ? (Pig)userDataA : (Pig)userDataB;
-
-                        Vector2 velocity = bodyA == bird.getBody() ? bodyA.getLinearVelocity() : bodyB.getLinearVelocity();
-                        float impactSpeed = velocity.len();
-
-                        float damage = calculateDamage(impactSpeed);
-                        pig.applyDamage(damage);
-
-                        System.out.println("Bird-Pig Impact Details:");
-                        System.out.println("Velocity: " + velocity);
-                        System.out.println("Impact Speed: " + impactSpeed);
-                        System.out.println("Pig Health: " + pig.getHealth() + " / " + pig.getMaxHealth());
-
-                        if (pig.getHealth() <= 0 && !pig.isDestroyed()) {
-                            System.out.println("Pig is being destroyed!");
-                            pigsToDestroy.add(pig);
-                        }
-                    }
-                }
-            }
-
-
-            @Override
-            public void endContact(Contact contact) {
-                // Not needed for this implementation
-            }
-
-            @Override
-            public void preSolve(Contact contact, Manifold oldManifold) {
-                // Not needed for this implementation
-            }
-
-            @Override
-            public void postSolve(Contact contact, ContactImpulse impulse) {
-                // Not needed for this implementation
+    private void updateAndRenderBirds(float alpha) {
+        // Birds spawned by abilities; the simulation retires the ones that leave the level
+        List<Bird> activeBirds = simulation.getActiveBirds();
+        for (int i = 0; i < activeBirds.size(); i++) {
+            Bird bird = activeBirds.get(i);
+            if (!bird.isDisposed()) {
+                bird.draw(batch, alpha);
             }
-        });
-    }
-    public void processStructureDestruction() {
-        if (structuresToDestroy.isEmpty()) {
-            return;
-        }
-
-        // Safely remove structures outside of collision handling
-        for (Structure structure : structuresToDestroy) {
-            removeStructureAdvanced(structure);
         }
 
-        // Clear the destruction queue
-        structuresToDestroy.clear();
-    }
-
-    public void processPigDestruction() {
-        if (pigsToDestroy.isEmpty()) {
-            return;
-        }
-
-        // Create a copy of the list to avoid concurrent modification
-        List<Pig> pigsToRemove = new ArrayList<>(pigsToDestroy);
-        pigsToDestroy.clear();
-
-        // Safely remove pigs outside of collision handling
-        for (Pig pig : pigsToRemove) {
-            if (pig != null && !pig.isDestroyed()) {
-                removePigAdvanced(pig);
-            }
+        // Include the current bird from the slingshot
+        Bird currentBird = simulation.getCurrentBird();
+        if (currentBird != null && !currentBird.isDisposed() && !activeBirds.contains(currentBird)) {
+            currentBird.draw(batch, alpha);
         }
-
     }
 
-    private void removePigAdvanced(Pig pig) {
-        if (pig == null || pig.isDestroyed()) {
-            return;
-        }
-
-        pig.setDestroyed(true);
-
-        pig.dispose();
-        if (pig.getBody() != null) {
-            world.destroyBody(pig.getBody());
+    private void renderPigs(SpriteBatch batch, float alpha){
+        EntityRegistry<Pig> pigs = simulation.getPigs();
+        for (int i = 0; i < pigs.size(); i++) {
+            pigs.get(i).draw(batch, alpha);
         }
-
-        // Create a new list without the destroyed pig
-        List<GameObject> pigList = new ArrayList<>(Arrays.asList(pigs));
-        pigList.remove(pig);
-        pigs = pigList.toArray(new GameObject[0]);
-
-        System.out.println("Pig successfully destroyed and removed from game world");
-    }
-
-    private void printStructureHealth(Structure structure) {
-        // Print health details to the console
-        System.out.println("Structure Health Report:");
-        System.out.println("Current Health: " + structure.getHealth());
-        System.out.println("Max Health: " + structure.getMaxHealth());
-        System.out.printf("Health Percentage: %.2f%%\n", structure.getHealthPercentage());
-        System.out.println("Is Destroyed: " + structure.isDestroyed());
-        System.out.println("----------------------------");
-    }
-
-    private void removeStructureAdvanced(Structure structure) {
-
-        structure.dispose();
-
-        world.destroyBody(structure.getBody());
-
-        List<GameObject> structureList = new ArrayList<>(Arrays.asList(structures));
-        structureList.remove(structure);
-        structures = structureList.toArray(new GameObject[0]);
-
-        System.out.println("Structure destroyed and removed from game world");
     }
 
-    private Structure createStructureWithUserData(String textureName,String damagedpath, float x, float y, float scale) {
-        Structure structure = new Structure(world, textureName,damagedpath, x, y, scale);
-        structure.getBody().setUserData(structure);
-        return structure;
-    }
-
-    private void createStructuresForLevel() {
-        switch (level) {
-            case 1:
-                structures = new GameObject[]{
-                    new Structure(world, "Vertical_stone_block1.png","Vertical_stone_block4.png", 1000 , 500 , STRUCTURE_SCALE,20f), // Base horizontal rod
-                    new Structure(world, "Vertical_stone_block1.png","Vertical_stone_block3.png", 1150 , 500 , STRUCTURE_SCALE,20f), // Glass rod above the block
-                    new Structure(world, "Horizontal_wood_block1.png","Horizontal_wood_block4.png", 980 , 700 , STRUCTURE_SCALE,15f), // Wood block above the glass rod
-                    //new Structure(world, "Vertical_stone_block1.png","Vertical_stone_block4.png", 1075 , 500 , STRUCTURE_SCALE,75f), // Base horizontal rod
-                    //new Structure(world, "Vertical_stone_block1.png","Vertical_stone_block3.png", 1180 , 700 , STRUCTURE_SCALE,75f), // Glass rod above the block
-
-                };
-
-                pigs = new GameObject[]{
-                    //new Pig(world, "Small_Pig.png", "Small_Pig_damage.png", 1075, 540, PIG_SCALE, 75f),
-                    new Pig(world, "Small_Pig.png", "Small_Pig_damage.png", 1075, 720, PIG_SCALE, 75f),
-                    /*new Pig(world, "Small_Pig.png", "Small_pig_damage.png", 1100, 525, PIG_SCALE, 75f),
-                    new Pig(world, "Moustache_Pig.png", "Moustache_Pig_damage.png", 1020, 540, PIG_SCALE, 75f),
-                    new Pig(world, "Small_Pig.png", "Small_pig_damage.png", 1020, 525, PIG_SCALE, 75f),
-                    new Pig(world, "King_Pig.png", "King_pig_damage.png", 1050, 725, PIG_SCALE, 150f)*/
-                };
-                break; //trial success
-
-            case 2:
-                structures = new GameObject[]{
-                    new Structure(world, "Vertical_wood_block1.png","Vertical_wood_block4.png", 1000 , 500 , STRUCTURE_SCALE,15f), // Base horizontal rod
-                    new Structure(world, "Vertical_wood_block1.png","Vertical_wood_block3.png", 1150 , 500 , STRUCTURE_SCALE,15f), // Glass rod above the block
-                    new Structure(world, "Horizontal_stone_block1.png","Horizontal_stone_block4.png", 980 , 700 , STRUCTURE_SCALE,20f), // Wood block above the glass rod
-                    new Structure(world, "Vertical_stone_block1.png","Vertical_stone_block4.png", 1085 , 500 , STRUCTURE_SCALE,20f), // Base horizontal rod
-                    //new Structure(world, "Vertical_stone_block1.png","Vertical_stone_block3.png", 1180 , 700 , STRUCTURE_SCALE,75f), // Glass rod above the block
-
-                };
-
-                pigs = new GameObject[]{
-                    new Pig(world, "Moustache_Pig.png", "Moustache_Pig_damage.png", 1100, 540, PIG_SCALE, 100f),
-                    new Pig(world, "Small_Pig.png", "Small_pig_damage.png", 1100, 525, PIG_SCALE, 75f),
-                    new Pig(world, "Moustache_Pig.png", "Moustache_Pig_damage.png", 1020, 540, PIG_SCALE, 100f),
-                    new Pig(world, "Small_Pig.png", "Small_pig_damage.png", 1020, 525, PIG_SCALE, 75f),
-                    new Pig(world, "King_Pig.png", "King_pig_damage.png", 1050, 725, PIG_SCALE, 150f)
-                };
-                break;
-
-            case 3:
-                structures = new GameObject[]{
-                    new Structure(world, "Vertical_stone_block1.png","Vertical_stone_block4.png", 1000 , 500 , STRUCTURE_SCALE,20f), // Base horizontal rod
-                    new Structure(world, "Vertical_stone_block1.png","Vertical_stone_block3.png", 1150 , 500 , STRUCTURE_SCALE,20f), // Glass rod above the block
-                    new Structure(world, "Horizontal_wood_block1.png","Horizontal_wood_block4.png", 980 , 700 , STRUCTURE_SCALE,15f), // Wood block above the glass rod
-                    new Structure(world, "Vertical_glass_block1.png","Vertical_glass_block4.png", 1030 , 700 , STRUCTURE_SCALE,10f), // Base horizontal rod
-                    new Structure(world, "Vertical_glass_block1.png","Vertical_glass_block3.png", 1100 , 700 , STRUCTURE_SCALE,10f), // Glass rod above the block
-                    //new Structure(world, "Horizontal_wood_block1.png","Horizontal_wood_block4.png", 1000 , 900 , STRUCTURE_SCALE,25f), // Wood block above the glass rod
-                    new Structure(world, "Vertical_stone_block1.png","Vertical_stone_block3.png", 1075 , 500 , STRUCTURE_SCALE,20f), // Base horizontal rod
-                    new Structure(world, "Horizontal_wood_block1.png","Horizontal_wood_block4.png", 980 , 900 , STRUCTURE_SCALE,15f), // Wood block above the glass rod
-
-                };
-
-                pigs = new GameObject[]{
-                    new Pig(world, "Small_Pig.png","Small_pig_damage.png",1100 ,540 , PIG_SCALE,75f),
-                    new Pig(world, "Small_Pig.png","Small_pig_damage.png",1100 ,525 , PIG_SCALE,75f),
-                    new Pig(world, "Small_Pig.png","Small_pig_damage.png",1020 ,540 , PIG_SCALE,75f),
-                    new Pig(world, "Small_Pig.png","Small_pig_damage.png",1020 ,525 , PIG_SCALE,75f),
-                    new Pig(world, "Small_Pig.png","Small_pig_damage.png",1100 ,560 , PIG_SCALE,75f),
-                    new Pig(world, "Small_Pig.png","Small_pig_damage.png",1100 ,580 , PIG_SCALE,75f),
-                    new Pig(world, "Small_Pig.png","Small_pig_damage.png",1020 ,560 , PIG_SCALE,75f),
-                    new Pig(world, "Small_Pig.png","Small_pig_damage.png",1020 ,580 , PIG_SCALE,75f),
-                    new Pig(world, "Moustache_Pig.png","Moustache_Pig_damage.png",1055 ,710 , PIG_SCALE,100f),
-                    new Pig(world, "Moustache_Pig.png","Moustache_Pig_damage.png",1055 ,745 , PIG_SCALE,100f),
-                    new Pig(world, "Moustache_Pig.png","Moustache_Pig_damage.png",1060 ,780 , PIG_SCALE,100f),
-                    new Pig(world, "King_Pig.png", "King_pig_damage.png", 1045, 890, PIG_SCALE, 150f)
-                };
-                break;
+    private void renderStructures(SpriteBatch batch, float alpha) {
+        EntityRegistry<Structure> structures = simulation.getStructures();
+        // Resting blocks keep the position from their last update
+        boolean moving = !simulation.isSettled();
+        for (int i = 0; i < structures.size(); i++) {
+            Structure structure = structures.get(i);
+            if (moving) {
+                structure.update();
+            }
+            structure.draw(batch, alpha);
         }
     }
 
-    private void createBirdsForLevel() {
+    private void createBackgroundForLevel() {
         switch (level) {
             case 1:
-                birds = new Bird[]{
-                    new RedBird(world, 100 / PPM, platformY + 50 / PPM, BIRD_SCALE),
-                    new BlueBird(world, 250 / PPM, platformY + 50 / PPM, BIRD_SCALE),
-                    new BlackBird(world, 200/PPM, platformY+ 50 /PPM, BLACK_BIRD_SCALE)
-                };
+                backgroundTexture = Assets.texture("game_screen_bg_level1.png");
                 break;
             case 2:
-                birds = new Bird[]{
-                    new YellowBird(world, 50 / PPM, platformY + 50 / PPM, YELLOW_BIRD_SCALE),
-                    new BlackBird(world, 50 / PPM, platformY - 50 / PPM, BLACK_BIRD_SCALE)
-                };
-
+                backgroundTexture = Assets.texture("game_screen_bg_level2.png");
                 break;
             case 3:
-                birds = new Bird[]{
-                    new RedBird(world, 50 / PPM, platformY + 100 / PPM, BIRD_SCALE),
-                    new YellowBird(world, 50 / PPM, platformY, YELLOW_BIRD_SCALE),
-                    new BlackBird(world, 200/PPM, platformY+ 50 /PPM, BLACK_BIRD_SCALE)
-                };
+                backgroundTexture = Assets.texture("game_screen_bg_level3.png");
                 break;
             default:
-                birds = new Bird[]{
-                    new RedBird(world, 50 / PPM, platformY + 50 / PPM, BIRD_SCALE)
-                };
+                backgroundTexture = Assets.texture("game_screen_bg.png");
         }
     }
 
     @Override
     public void resize(int width, int height) {
         camera.setToOrtho(false, width, height);
+        simulation.setWorldWidth(width);
         stage.getViewport().update(width, height, true);
     }
 
@@ -912,47 +481,32 @@ public class GameScreen implements Screen {
 
     @Override
     public void hide() {
+        // Other screens animate on their own
+        Gdx.graphics.setContinuousRendering(true);
         if (backgroundMusic != null && backgroundMusic.isPlaying()) {
             backgroundMusic.stop();
         }
-        dispose();
+        if (!suspended) {
+            dispose();
+        }
     }
 
     @Override
     public void dispose() {
-        // Dispose of active birds along with other resources
-        for (Bird bird : activeBirds) {
-            bird.dispose();
+        if (simulation == null) {
+            return;
         }
-        // Existing dispose method continues as before
         stage.dispose();
         batch.dispose();
-        skin.dispose();
-        backgroundTexture.dispose();
         slingshot.dispose();
-        world.dispose();
-        debugRenderer.dispose();
-
-        for (Bird bird : birds) {
-            bird.dispose();
-        }
-
-        for (GameObject structure : structures) {
-            structure.dispose();
-        }
-
-        for( GameObject pigs : pigs) {
-            pigs.dispose();
-        }
-
-        if (backgroundMusic != null) {
-            backgroundMusic.dispose();
-        }
-
-        pauseButtonTexture.dispose();
-        pauseButtonHoverTexture.dispose();
-        pauseButtonPressedTexture.dispose();
-
+        debugOverlay.dispose();
+        saveProfile();
+        profiler.dispose();
+        simulation.dispose();
+        simulation = null;
+        suspended = false;
+
+        // Background, music and button textures are owned by Assets
     }
 
     public void pauseButtonClicked() {
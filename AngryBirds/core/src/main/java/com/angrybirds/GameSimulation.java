@@ -0,0 +1,858 @@
+package com.angrybirds;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.Contact;
+import com.badlogic.gdx.physics.box2d.ContactImpulse;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.FixtureDef;
+import com.badlogic.gdx.physics.box2d.Manifold;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+
+/**
+ * Everything that decides how a level plays out: the Box2D world, the bird queue, blocks, pigs,
+ * contact handling, damage and win/lose tracking. It needs no GL context or audio, so it can run
+ * headless in tests and tools; GameScreen drives it once per frame and observes it through
+ * {@link SimulationListener}.
+ */
+public class GameSimulation {
+    public static final float PPM = 100.0f;
+
+    // Physics always advances in fixed steps, independent of the display refresh rate
+    public static final float TIME_STEP = 1 / 60f;
+    private static final int VELOCITY_ITERATIONS = 8;
+    private static final int POSITION_ITERATIONS = 3;
+    // Upper bound on catch-up steps per frame so a long hitch cannot snowball
+    private static final int MAX_STEPS_PER_FRAME = 5;
+
+    // Launch tuning: metres per second of launch speed per pixel of pull, and the speed cap
+    public static final float LAUNCH_POWER_MULTIPLIER = 0.25f;
+    public static final float MAX_LAUNCH_SPEED = 14f;
+
+    // Where a loaded bird waits in the slingshot, in pixels
+    public static final float BIRD_READY_X = 325;
+    public static final float BIRD_READY_Y = 585;
+
+    public static final long DEFAULT_SEED = 0L;
+
+    // A settling bird that Box2D has not put to sleep yet counts as at rest after moving slower
+    // than this (metres per second) for REST_STEPS steps, and is spent after MAX_SETTLE_STEPS
+    private static final float MINIMUM_BIRD_VELOCITY = 0.1f;
+    private static final int REST_STEPS = 10;
+    private static final int MAX_SETTLE_STEPS = 60 * 4;
+    private static final float DEFAULT_WORLD_WIDTH = 640;
+
+    private final World world;
+    private final ContactRouter contactRouter;
+    private final DamageAccumulator damageAccumulator = new DamageAccumulator();
+    private final DamageAccumulator.Listener damageListener = this::onImpactDamage;
+    private final GameStateTracker gameState;
+    private final List<SimulationListener> listeners = new ArrayList<>();
+
+    // Live entities; destroyed ones are swap-removed after the physics step
+    private final EntityRegistry<Structure> structures = new EntityRegistry<>();
+    private final EntityRegistry<Pig> pigs = new EntityRegistry<>();
+    private final Bird[] birds;
+    private final Queue<Bird> birdQueue;
+    private Bird currentBird;
+    // Set from contact callbacks during a step when the current bird touches anything
+    private boolean currentBirdHit;
+    private int settleSteps;
+    private int restSteps;
+    // How many birds have been taken from the queue, i.e. birds[loadedBirds - 1] is current
+    private int loadedBirds;
+    // Birds spawned by special abilities, e.g. BlueBird's split
+    private final List<Bird> activeBirds = new ArrayList<>();
+    // Every bird spawned since setup; their bodies come from pools and go back when disposed
+    private final List<Bird> spawnedBirds = new ArrayList<>();
+    private final List<BodyPool> bodyPools = new ArrayList<>();
+    // Fragments of destroyed blocks, with bodies prepared at setup
+    private final DebrisSystem debris;
+    // Shared by area abilities such as BlackBird's explosion
+    private final AreaQuery areaQuery = new AreaQuery();
+
+    private final List<Structure> structuresToDestroy = new ArrayList<>();
+    private final List<Pig> pigsToDestroy = new ArrayList<>();
+
+    // State right after setup, restored in place by restart()
+    private final WorldSnapshot initialState;
+    private final Structure[] initialStructures;
+    private final Pig[] initialPigs;
+    private int initialLoadedBirds;
+
+    private float accumulator = 0f;
+    private final Vector2 launchVelocity = new Vector2();
+    // Physics steps taken since setup or the last restart; inputs are stamped with it
+    private int step;
+    private final long seed;
+    // Receives every input when set, so the run can be replayed
+    private Replay recorder;
+    // Birds beyond this x (pixels) are out of the level
+    private float worldWidth = DEFAULT_WORLD_WIDTH;
+    // Nothing moves and no bird is in play, so steps skip Box2D until an input disturbs the world
+    private boolean settled;
+    private final Array<Body> worldBodies = new Array<>();
+    // Times the world step and the rules after it when set
+    private FrameProfiler profiler;
+
+    public GameSimulation(int level) {
+        this(LevelLoader.load(level), DEFAULT_SEED);
+    }
+
+    public GameSimulation(LevelData levelData) {
+        this(levelData, DEFAULT_SEED);
+    }
+
+    /**
+     * @param levelData Level to set up; bodies are always created in the same order
+     * @param seed Seed for everything random in the run, so replays can reproduce it
+     */
+    public GameSimulation(LevelData levelData, long seed) {
+        this.seed = seed;
+        world = new World(new Vector2(0, -9.8f), true);
+        createGround();
+
+        birds = LevelLoader.createBirds(world, levelData);
+        // Birds wait outside the world until loaded; left active they fell forever and never slept
+        for (Bird bird : birds) {
+            bird.getBody().setActive(false);
+        }
+        seedBirds();
+        createBodyPools();
+        LevelLoader.createEntities(world, levelData, structures, pigs);
+        debris = new DebrisSystem(world);
+        debris.prepare(structures);
+
+        contactRouter = new ContactRouter(world);
+        setupCollisionHandler();
+
+        gameState = new GameStateTracker(new GameStateTracker.Listener() {
+            @Override
+            public void onLevelWon() {
+                for (int i = 0; i < listeners.size(); i++) {
+                    listeners.get(i).onLevelWon();
+                }
+            }
+
+            @Override
+            public void onLevelLost() {
+                for (int i = 0; i < listeners.size(); i++) {
+                    listeners.get(i).onLevelLost();
+                }
+            }
+        });
+
+        birdQueue = new LinkedList<>(Arrays.asList(birds));
+        loadNextBird();
+        gameState.reset(pigs.size(), birds.length);
+
+        initialStructures = new Structure[structures.size()];
+        initialPigs = new Pig[pigs.size()];
+        initialState = new WorldSnapshot(birds.length + initialStructures.length + initialPigs.length);
+        takeInitialSnapshot();
+    }
+
+    private void takeInitialSnapshot() {
+        for (Bird bird : birds) {
+            initialState.record(bird.getBody(), 0f);
+        }
+        for (int i = 0; i < initialStructures.length; i++) {
+            initialStructures[i] = structures.get(i);
+            initialState.record(initialStructures[i].getBody(), initialStructures[i].getHealth());
+        }
+        for (int i = 0; i < initialPigs.length; i++) {
+            initialPigs[i] = pigs.get(i);
+            initialState.record(initialPigs[i].getBody(), initialPigs[i].getHealth());
+        }
+        initialLoadedBirds = loadedBirds;
+    }
+
+    /**
+     * Put the level back into the state it had right after setup, reusing every body and sprite.
+     * Every body gets its saved transform and velocities back exactly, but the World keeps its
+     * contacts, their warm-start impulses and its broad-phase order from the last attempt, so the
+     * steps that follow only approximate a freshly built level rather than match it bit for bit.
+     * That is why the restart is recorded as an input rather than starting a new recording.
+     * Listeners are not notified; whoever restarts is expected to reset their own view.
+     */
+    public void restart() {
+        record(Replay.Input.RESTART, 0f, 0f);
+        // Birds split off by abilities hand their pooled bodies back
+        for (int i = 0; i < spawnedBirds.size(); i++) {
+            spawnedBirds.get(i).dispose();
+        }
+        spawnedBirds.clear();
+        activeBirds.clear();
+        debris.clear();
+        structuresToDestroy.clear();
+        pigsToDestroy.clear();
+
+        initialState.restore();
+
+        // Snapshot order is birds, then blocks, then pigs
+        for (Bird bird : birds) {
+            bird.reset();
+        }
+        structures.clear();
+        for (int i = 0; i < initialStructures.length; i++) {
+            initialStructures[i].reset(initialState.getValue(birds.length + i));
+            structures.add(initialStructures[i]);
+        }
+        pigs.clear();
+        int pigOffset = birds.length + initialStructures.length;
+        for (int i = 0; i < initialPigs.length; i++) {
+            initialPigs[i].reset(initialState.getValue(pigOffset + i));
+            pigs.add(initialPigs[i]);
+        }
+
+        birdQueue.clear();
+        for (int i = initialLoadedBirds; i < birds.length; i++) {
+            birdQueue.add(birds[i]);
+        }
+        loadedBirds = initialLoadedBirds;
+        currentBird = loadedBirds > 0 ? birds[loadedBirds - 1] : null;
+        for (int i = 0; i < loadedBirds - 1; i++) {
+            birds[i].setState(BirdState.SPENT);
+        }
+        if (currentBird != null) {
+            currentBird.setState(BirdState.LOADED);
+        }
+        clearLanding();
+
+        for (Bird bird : birds) {
+            bird.captureTransform();
+        }
+        for (int i = 0; i < pigs.size(); i++) {
+            pigs.get(i).captureTransform();
+        }
+        for (int i = 0; i < structures.size(); i++) {
+            structures.get(i).captureTransform();
+        }
+
+        accumulator = 0f;
+        step = 0;
+        settled = false;
+        gameState.reset(pigs.size(), birds.length - loadedBirds + (currentBird != null ? 1 : 0));
+    }
+
+
+    public void addListener(SimulationListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(SimulationListener listener) {
+        listeners.remove(listener);
+    }
+
+    private void seedBirds() {
+        for (int i = 0; i < birds.length; i++) {
+            if (birds[i] instanceof BlackBird blackBird) {
+                blackBird.setShakeSeed(seed + i);
+            }
+        }
+    }
+
+    /**
+     * Create the bodies abilities will need up front, so using one creates no bodies mid-flight
+     */
+    private void createBodyPools() {
+        for (Bird bird : birds) {
+            if (bird instanceof BlueBird blueBird) {
+                BodyPool pool = blueBird.createBodyPool(BlueBird.SPLIT_COUNT);
+                blueBird.setSplitPool(pool);
+                bodyPools.add(pool);
+            }
+        }
+    }
+
+    /**
+     * Record every input from now on, e.g. right after setup; restarts are recorded too
+     * @param recorder Recording to append to, or null to stop recording
+     */
+    public void setRecorder(Replay recorder) {
+        this.recorder = recorder;
+    }
+
+    /**
+     * Time each step's Box2D work and rule processing separately
+     * @param profiler Profiler to report to, or null to stop timing
+     */
+    public void setProfiler(FrameProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    private void record(Replay.Input input, float x, float y) {
+        if (recorder != null) {
+            recorder.record(step, input, x, y);
+        }
+    }
+
+    private void createGround() {
+        float platformWidth = 1600; // Increased platform width
+        float platformHeight = 10 / PPM;
+        float platformY = 460 / PPM;
+
+        BodyDef bodyDef = new BodyDef();
+        bodyDef.type = BodyDef.BodyType.StaticBody;
+        bodyDef.position.set(platformWidth / 2, platformY);
+
+        Body body = world.createBody(bodyDef);
+
+        PolygonShape shape = new PolygonShape();
+        shape.setAsBox(platformWidth / 2, platformHeight / 2);
+
+        FixtureDef fixtureDef = new FixtureDef();
+        fixtureDef.shape = shape;
+        fixtureDef.density = 0f;
+        fixtureDef.friction = 2f;
+        fixtureDef.filter.categoryBits = BodyCategory.GROUND.bits;
+
+        body.createFixture(fixtureDef);
+        shape.dispose();
+    }
+
+    private void setupCollisionHandler() {
+        for (int i = 0; i < pigs.size(); i++) {
+            damageAccumulator.register(pigs.get(i));
+        }
+        for (int i = 0; i < structures.size(); i++) {
+            damageAccumulator.register(structures.get(i));
+        }
+
+        // Every pair involving a pig or a block deals impact damage, not just bird hits.
+        // Any contact of a launched bird also ends its free flight.
+        contactRouter.register(BodyCategory.BIRD, BodyCategory.STRUCTURE, new LandingHandler(damageAccumulator.impactHandler(false, true)));
+        contactRouter.register(BodyCategory.BIRD, BodyCategory.PIG, new LandingHandler(damageAccumulator.impactHandler(false, true)));
+        contactRouter.register(BodyCategory.BIRD, BodyCategory.GROUND, new LandingHandler(null));
+        contactRouter.register(BodyCategory.STRUCTURE, BodyCategory.STRUCTURE, damageAccumulator.impactHandler(true, true));
+        contactRouter.register(BodyCategory.STRUCTURE, BodyCategory.PIG, damageAccumulator.impactHandler(true, true));
+        contactRouter.register(BodyCategory.PIG, BodyCategory.PIG, damageAccumulator.impactHandler(true, true));
+        contactRouter.register(BodyCategory.GROUND, BodyCategory.STRUCTURE, damageAccumulator.impactHandler(false, true));
+        contactRouter.register(BodyCategory.GROUND, BodyCategory.PIG, damageAccumulator.impactHandler(false, true));
+    }
+
+    /**
+     * Notes the first contact of the current bird, then passes the contact on to the handler
+     * the pair would otherwise have; the bird is always the first fixture
+     */
+    private final class LandingHandler implements ContactHandler {
+        private final ContactHandler next;
+
+        LandingHandler(ContactHandler next) {
+            this.next = next;
+        }
+
+        @Override
+        public void beginContact(Contact contact, Fixture first, Fixture second) {
+            if (first.getUserData() == currentBird) {
+                currentBirdHit = true;
+            }
+            if (next != null) {
+                next.beginContact(contact, first, second);
+            }
+        }
+
+        @Override
+        public void endContact(Contact contact, Fixture first, Fixture second) {
+            if (next != null) {
+                next.endContact(contact, first, second);
+            }
+        }
+
+        @Override
+        public void preSolve(Contact contact, Manifold oldManifold, Fixture first, Fixture second) {
+            if (next != null) {
+                next.preSolve(contact, oldManifold, first, second);
+            }
+        }
+
+        @Override
+        public void postSolve(Contact contact, ContactImpulse impulse, Fixture first, Fixture second) {
+            if (next != null) {
+                next.postSolve(contact, impulse, first, second);
+            }
+        }
+    }
+
+    /**
+     * Put the next queued bird into the slingshot
+     */
+    private void loadNextBird() {
+        clearLanding();
+        if (!birdQueue.isEmpty()) {
+            currentBird = birdQueue.poll();
+            loadedBirds++;
+            currentBird.setPosition(BIRD_READY_X, BIRD_READY_Y);
+            currentBird.setBodyType(BodyDef.BodyType.StaticBody);
+            currentBird.getBody().setActive(true);
+            setBirdState(currentBird, BirdState.LOADED);
+        } else {
+            currentBird = null;
+        }
+    }
+
+    private void clearLanding() {
+        currentBirdHit = false;
+        settleSteps = 0;
+        restSteps = 0;
+    }
+
+    private void setBirdState(Bird bird, BirdState state) {
+        BirdState previous = bird.getState();
+        bird.setState(state);
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onBirdStateChanged(bird, previous);
+        }
+    }
+
+    /**
+     * Pick up the loaded bird so it can be dragged
+     * @return true if there was a bird waiting in the slingshot
+     */
+    public boolean beginDrag() {
+        if (currentBird == null ||
+            (currentBird.getState() != BirdState.LOADED && currentBird.getState() != BirdState.DRAGGED)) {
+            return false;
+        }
+        currentBird.setBodyType(BodyDef.BodyType.KinematicBody);
+        settled = false;
+        if (currentBird.getState() == BirdState.LOADED) {
+            setBirdState(currentBird, BirdState.DRAGGED);
+        }
+        record(Replay.Input.DRAG_START, 0f, 0f);
+        return true;
+    }
+
+    /**
+     * Move the dragged bird
+     * @param x X-coordinate in pixels
+     * @param y Y-coordinate in pixels
+     */
+    public void dragBirdTo(float x, float y) {
+        if (currentBird != null && currentBird.getState() == BirdState.DRAGGED) {
+            currentBird.setPosition(x, y);
+            record(Replay.Input.DRAG, x, y);
+        }
+    }
+
+    /**
+     * Release the dragged bird
+     * @param pullX Horizontal pull from the slingshot centre in pixels
+     * @param pullY Vertical pull from the slingshot centre in pixels
+     */
+    public void release(float pullX, float pullY) {
+        if (currentBird == null || currentBird.getState() != BirdState.DRAGGED) {
+            return;
+        }
+        record(Replay.Input.RELEASE, pullX, pullY);
+
+        launchVelocity(pullX, pullY, launchVelocity);
+        currentBird.setBodyType(BodyDef.BodyType.DynamicBody);
+        currentBird.setVelocity(launchVelocity.x, launchVelocity.y);
+        clearLanding();
+        setBirdState(currentBird, BirdState.FLYING);
+
+        gameState.onBirdLaunched();
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onBirdLaunched(currentBird);
+        }
+    }
+
+    /**
+     * Launch velocity for a pull; the bird flies opposite to the pull, scaled and clamped to the
+     * maximum speed
+     * @param pullX Horizontal pull from the slingshot centre in pixels
+     * @param pullY Vertical pull from the slingshot centre in pixels
+     * @param out Receives the velocity in metres per second
+     * @return out
+     */
+    public static Vector2 launchVelocity(float pullX, float pullY, Vector2 out) {
+        float velocityX = -pullX * LAUNCH_POWER_MULTIPLIER;
+        float velocityY = -pullY * LAUNCH_POWER_MULTIPLIER;
+        float speed = (float) Math.sqrt(velocityX * velocityX + velocityY * velocityY);
+        if (speed > MAX_LAUNCH_SPEED) {
+            velocityX *= MAX_LAUNCH_SPEED / speed;
+            velocityY *= MAX_LAUNCH_SPEED / speed;
+        }
+        return out.set(velocityX, velocityY);
+    }
+
+    /**
+     * Trigger the special ability of the bird in flight, if it has one left. Abilities work from
+     * release until the bird first touches something.
+     * @return true if an ability was activated
+     */
+    public boolean activateAbility() {
+        Bird bird = currentBird;
+        if (bird == null || bird.getState() != BirdState.FLYING) {
+            return false;
+        }
+
+        boolean activated = false;
+        if (bird instanceof YellowBird yellowBird) {
+            if (!yellowBird.isSpecialAbilityActivated()) {
+                yellowBird.specialAbility();
+                activated = true;
+            }
+        } else if (bird instanceof BlueBird blueBird) {
+            if (!blueBird.isSpecialAbilityActivated()) {
+                Bird[] newBirds = blueBird.specialAbility();
+                for (Bird newBird : newBirds) {
+                    newBird.setState(BirdState.FLYING);
+                }
+                // Add new birds to the active birds list
+                activeBirds.addAll(Arrays.asList(newBirds));
+                spawnedBirds.addAll(Arrays.asList(newBirds));
+                activated = true;
+            }
+        } else if (bird instanceof BlackBird blackBird) {
+            if (!blackBird.isSpecialAbilityActivated()) {
+                blackBird.specialAbility(areaQuery);
+                activated = true;
+            }
+        }
+
+        if (activated) {
+            record(Replay.Input.ABILITY, 0f, 0f);
+            for (int i = 0; i < listeners.size(); i++) {
+                listeners.get(i).onAbilityActivated(bird);
+            }
+        }
+        return activated;
+    }
+
+    /**
+     * Advance the world by whole fixed steps covering the frame time
+     * @param delta Frame time in seconds
+     * @return Interpolation factor between the last two physics states
+     */
+    public float advance(float delta) {
+        // Drop time we could never catch up on instead of spiralling
+        accumulator += Math.min(delta, MAX_STEPS_PER_FRAME * TIME_STEP);
+
+        int steps = 0;
+        while (accumulator >= TIME_STEP && steps < MAX_STEPS_PER_FRAME) {
+            step();
+            accumulator -= TIME_STEP;
+            steps++;
+        }
+        return accumulator / TIME_STEP;
+    }
+
+    /**
+     * Advance the simulation by exactly one fixed step
+     */
+    public void step() {
+        if (settled) {
+            // Every body is asleep and only an input can change that, so there is nothing to do
+            step++;
+            return;
+        }
+        captureTransforms();
+        if (profiler != null) {
+            profiler.begin(FrameProfiler.Phase.WORLD_STEP);
+        }
+        world.step(TIME_STEP, VELOCITY_ITERATIONS, POSITION_ITERATIONS);
+        if (profiler != null) {
+            profiler.end(FrameProfiler.Phase.WORLD_STEP);
+            profiler.begin(FrameProfiler.Phase.RULES);
+        }
+
+        // Impulses gathered in postSolve become damage once the step is over
+        damageAccumulator.apply(damageListener);
+
+        // Bodies destroyed by that damage are removed between steps
+        processPigDestruction();
+        processStructureDestruction();
+        for (int i = 0; i < pigs.size(); i++) {
+            pigs.get(i).update(TIME_STEP);
+        }
+        debris.update();
+
+        updateCurrentBird();
+        removeOutOfBoundsBirds();
+        checkSettled();
+        if (profiler != null) {
+            profiler.end(FrameProfiler.Phase.RULES);
+        }
+        step++;
+    }
+
+    /**
+     * The world is settled once no bird is being aimed or in the air and every body has fallen
+     * asleep. Box2D sleeps per island, so a tower only rests when all of its blocks do.
+     * Debris ages and fades out with the steps, so the world keeps stepping until the last fragment is gone.
+     */
+    private void checkSettled() {
+        if ((currentBird != null && currentBird.getState() != BirdState.LOADED) || !activeBirds.isEmpty()
+            || debris.size() > 0) {
+            return;
+        }
+        world.getBodies(worldBodies);
+        for (int i = 0; i < worldBodies.size; i++) {
+            Body body = worldBodies.get(i);
+            if (body.getType() == BodyDef.BodyType.DynamicBody && body.isActive() && body.isAwake()) {
+                return;
+            }
+        }
+        settled = true;
+        // Nothing moves from here on, so drawing must not blend towards the step before
+        captureTransforms();
+        GameLog.debug(GameLog.Category.PHYSICS, "World settled at step {}", step);
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onWorldSettled();
+        }
+    }
+
+    /**
+     * @return true while every body is asleep and no bird is in play; steps cost nothing until
+     * the next drag or restart
+     */
+    public boolean isSettled() {
+        return settled;
+    }
+
+    private void captureTransforms() {
+        for (Bird bird : birds) {
+            if (!bird.isDisposed()) {
+                bird.captureTransform();
+            }
+        }
+        for (int i = 0; i < activeBirds.size(); i++) {
+            Bird bird = activeBirds.get(i);
+            if (!bird.isDisposed()) {
+                bird.captureTransform();
+            }
+        }
+        for (int i = 0; i < pigs.size(); i++) {
+            pigs.get(i).captureTransform();
+        }
+        for (int i = 0; i < structures.size(); i++) {
+            structures.get(i).captureTransform();
+        }
+        debris.captureTransforms();
+    }
+
+    /**
+     * Move the launched bird along: its first contact starts settling, and once settled or out of
+     * the level it is spent and the next bird is loaded in the same step
+     */
+    private void updateCurrentBird() {
+        Bird bird = currentBird;
+        if (bird == null || !bird.getState().isLaunched()) {
+            return;
+        }
+        if (bird.getState() == BirdState.FLYING && currentBirdHit) {
+            setBirdState(bird, BirdState.SETTLING);
+        }
+        if (isOutOfBounds(bird) || (bird.getState() == BirdState.SETTLING && hasSettled(bird))) {
+            setBirdState(bird, BirdState.SPENT);
+            gameState.onBirdSpent();
+            for (int i = 0; i < listeners.size(); i++) {
+                listeners.get(i).onBirdSpent(bird);
+            }
+
+            // BlueBird also disposes the birds it split into
+            bird.dispose();
+            activeBirds.remove(bird);
+
+            loadNextBird();
+        }
+    }
+
+    private boolean hasSettled(Bird bird) {
+        Body body = bird.getBody();
+        if (!body.isAwake() || ++settleSteps >= MAX_SETTLE_STEPS) {
+            return true;
+        }
+        // Box2D takes a long time to put a rolling circle to sleep, so slow enough also counts
+        Vector2 velocity = body.getLinearVelocity();
+        if (Math.abs(velocity.x) < MINIMUM_BIRD_VELOCITY && Math.abs(velocity.y) < MINIMUM_BIRD_VELOCITY) {
+            return ++restSteps >= REST_STEPS;
+        }
+        restSteps = 0;
+        return false;
+    }
+
+    private void removeOutOfBoundsBirds() {
+        for (int i = activeBirds.size() - 1; i >= 0; i--) {
+            Bird bird = activeBirds.get(i);
+            if (bird.isDisposed() || isOutOfBounds(bird)) {
+                bird.dispose();
+                activeBirds.remove(i);
+            }
+        }
+    }
+
+    private boolean isOutOfBounds(Bird bird) {
+        Vector2 position = bird.getBody().getPosition();
+        return position.x > worldWidth / PPM ||
+            position.y < 0 ||
+            position.x < 0;
+    }
+
+    private void onImpactDamage(Damageable target, float damage) {
+        if (target instanceof Structure structure) {
+            printStructureHealth(structure, damage);
+            if (structure.isDestroyed()) {
+                structuresToDestroy.add(structure);
+            }
+        } else if (target instanceof Pig pig) {
+            GameLog.debug(GameLog.Category.DAMAGE, "Pig took {} damage, health {} / {}",
+                damage, pig.getHealth(), pig.getMaxHealth());
+            if (pig.getHealth() <= 0) {
+                GameLog.debug(GameLog.Category.DAMAGE, "Pig is being destroyed!");
+                // Queue pig for removal
+                pigsToDestroy.add(pig);
+            }
+        }
+    }
+
+    private void printStructureHealth(Structure structure, float damage) {
+        // Skip the argument reads entirely unless damage reports are switched on
+        if (!GameLog.isEnabled(GameLog.Category.DAMAGE, GameLog.Level.DEBUG)) {
+            return;
+        }
+        GameLog.debug(GameLog.Category.DAMAGE, "Structure took {} damage, health {} / {}",
+            damage, structure.getHealth(), structure.getMaxHealth());
+        GameLog.debug(GameLog.Category.DAMAGE, "Health percentage {}%", structure.getHealthPercentage());
+    }
+
+    private void processStructureDestruction() {
+        // Safely remove structures outside of collision handling; the registry ignores repeats
+        for (int i = 0; i < structuresToDestroy.size(); i++) {
+            removeStructure(structuresToDestroy.get(i));
+        }
+
+        // Clear the destruction queue
+        structuresToDestroy.clear();
+    }
+
+    private void processPigDestruction() {
+        // Safely remove pigs outside of collision handling; the registry ignores repeats
+        for (int i = 0; i < pigsToDestroy.size(); i++) {
+            removePig(pigsToDestroy.get(i));
+        }
+
+        pigsToDestroy.clear();
+    }
+
+    private void removePig(Pig pig) {
+        if (!pigs.remove(pig)) {
+            return;
+        }
+
+        pig.setDestroyed(true);
+        pig.dispose();
+        // Deactivated rather than destroyed so a restart can bring the body back
+        pig.getBody().setActive(false);
+
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onPigDestroyed(pig);
+        }
+        gameState.onPigDestroyed();
+
+        GameLog.debug(GameLog.Category.ENTITY, "Pig successfully destroyed and removed from game world");
+    }
+
+    private void removeStructure(Structure structure) {
+        if (!structures.remove(structure)) {
+            return;
+        }
+
+        debris.shatter(structure);
+        structure.dispose();
+        structure.getBody().setActive(false);
+
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onStructureDestroyed(structure);
+        }
+
+        GameLog.debug(GameLog.Category.ENTITY, "Structure destroyed and removed from game world");
+    }
+
+    /**
+     * @param worldWidth Right edge of the level in pixels; birds beyond it are retired
+     */
+    public void setWorldWidth(float worldWidth) {
+        this.worldWidth = worldWidth;
+        record(Replay.Input.WORLD_WIDTH, worldWidth, 0f);
+    }
+
+    public int getStep() {
+        return step;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public World getWorld() {
+        return world;
+    }
+
+    public Bird getCurrentBird() {
+        return currentBird;
+    }
+
+    public Bird[] getBirds() {
+        return birds;
+    }
+
+    public List<Bird> getActiveBirds() {
+        return activeBirds;
+    }
+
+    public int getQueuedBirdCount() {
+        return birdQueue.size();
+    }
+
+    public EntityRegistry<Structure> getStructures() {
+        return structures;
+    }
+
+    public DebrisSystem getDebris() {
+        return debris;
+    }
+
+    public EntityRegistry<Pig> getPigs() {
+        return pigs;
+    }
+
+    public GameStateTracker.Outcome getOutcome() {
+        return gameState.getOutcome();
+    }
+
+    public GameStateTracker getGameState() {
+        return gameState;
+    }
+
+    public void dispose() {
+        for (Bird bird : activeBirds) {
+            bird.dispose();
+        }
+        for (Bird bird : birds) {
+            bird.dispose();
+        }
+        for (int i = 0; i < structures.size(); i++) {
+            structures.get(i).dispose();
+        }
+        for (int i = 0; i < pigs.size(); i++) {
+            pigs.get(i).dispose();
+        }
+        for (int i = 0; i < bodyPools.size(); i++) {
+            bodyPools.get(i).dispose();
+        }
+        debris.dispose();
+        world.dispose();
+    }
+}
@@ -0,0 +1,91 @@
+package com.angrybirds;
+
+/**
+ * Keeps the counts that decide a level's outcome, updated by game events instead of
+ * rescanning every pig and bird each frame. The listener hears about the outcome exactly once.
+ */
+public class GameStateTracker {
+
+    public enum Outcome {
+        IN_PROGRESS,
+        WON,
+        LOST
+    }
+
+    public interface Listener {
+        void onLevelWon();
+
+        void onLevelLost();
+    }
+
+    private final Listener listener;
+    private int livePigs;
+    private int remainingBirds;
+    private int inFlightBirds;
+    private Outcome outcome = Outcome.IN_PROGRESS;
+
+    public GameStateTracker(Listener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Start tracking a freshly set up level
+     * @param pigs Number of pigs in the level
+     * @param birds Number of birds waiting to be launched
+     */
+    public void reset(int pigs, int birds) {
+        livePigs = pigs;
+        remainingBirds = birds;
+        inFlightBirds = 0;
+        outcome = Outcome.IN_PROGRESS;
+        evaluate();
+    }
+
+    public void onPigDestroyed() {
+        livePigs--;
+        evaluate();
+    }
+
+    public void onBirdLaunched() {
+        remainingBirds--;
+        inFlightBirds++;
+        evaluate();
+    }
+
+    /**
+     * A launched bird has left the screen or come to rest
+     */
+    public void onBirdSpent() {
+        inFlightBirds--;
+        evaluate();
+    }
+
+    private void evaluate() {
+        if (outcome != Outcome.IN_PROGRESS) {
+            return;
+        }
+        if (livePigs <= 0) {
+            outcome = Outcome.WON;
+            listener.onLevelWon();
+        } else if (remainingBirds <= 0 && inFlightBirds <= 0) {
+            outcome = Outcome.LOST;
+            listener.onLevelLost();
+        }
+    }
+
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    public int getLivePigs() {
+        return livePigs;
+    }
+
+    public int getRemainingBirds() {
+        return remainingBirds;
+    }
+
+    public int getInFlightBirds() {
+        return inFlightBirds;
+    }
+}
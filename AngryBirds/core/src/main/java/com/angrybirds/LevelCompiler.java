@@ -0,0 +1,26 @@
+package com.angrybirds;
+
+import com.badlogic.gdx.files.FileHandle;
+
+import java.io.File;
+
+/**
+ * Entry point of the compileLevels Gradle task. Each level JSON goes through
+ * {@link LevelLoader#readJson(FileHandle)}, so enum names and default scales come straight from
+ * LevelData, and is written next to the source as levelN.bin. Runs without a libGDX backend.
+ */
+public final class LevelCompiler {
+
+    private LevelCompiler() {}
+
+    /**
+     * @param args Paths of the level JSON files to compile
+     */
+    public static void main(String[] args) {
+        for (String path : args) {
+            FileHandle source = new FileHandle(new File(path));
+            FileHandle target = source.sibling(source.nameWithoutExtension() + ".bin");
+            LevelLoader.writeBinary(LevelLoader.readJson(source), target);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.angrybirds;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plain description of a level: the bird queue, the blocks and the pigs.
+ * Authored as JSON in assets/levels and compiled to the binary form by the compileLevels
+ * Gradle task; LevelLoader reads either one and builds the Box2D world from it.
+ * The enum ordinals are written to the binary files, so only ever append new constants.
+ */
+public class LevelData {
+
+    public enum BirdType {
+        RED(0.05f),
+        BLUE(0.05f),
+        BLACK(0.08f),
+        YELLOW(0.1f);
+
+        public final float defaultScale;
+
+        BirdType(float defaultScale) {
+            this.defaultScale = defaultScale;
+        }
+    }
+
+    public enum Material {
+        STONE("stone", "brokenhalfstonehorizontal.png"),
+        WOOD("wood", "halfwoodblock(horizontal).png"),
+        GLASS("glass", "halfglassblock(horizontal).png");
+
+        private final String textureName;
+        // Half-block sprite the fragments of a destroyed block are drawn with
+        public final String debrisPath;
+
+        Material(String textureName, String debrisPath) {
+            this.textureName = textureName;
+            this.debrisPath = debrisPath;
+        }
+    }
+
+    public enum Orientation {
+        VERTICAL("Vertical"),
+        HORIZONTAL("Horizontal");
+
+        private final String textureName;
+
+        Orientation(String textureName) {
+            this.textureName = textureName;
+        }
+    }
+
+    public enum PigKind {
+        SMALL("Small_Pig.png", "Small_pig_damage.png"),
+        MOUSTACHE("Moustache_Pig.png", "Moustache_Pig_damage.png"),
+        KING("King_Pig.png", "King_pig_damage.png");
+
+        public final String texturePath;
+        public final String damagedPath;
+
+        PigKind(String texturePath, String damagedPath) {
+            this.texturePath = texturePath;
+            this.damagedPath = damagedPath;
+        }
+    }
+
+    public static final float DEFAULT_STRUCTURE_SCALE = 1f;
+    public static final float DEFAULT_PIG_SCALE = 0.5f;
+
+    public static class BirdSpec {
+        public final BirdType type;
+        // Birds are positioned by the slingshot, so these are only their spawn point
+        public final float x;
+        public final float y;
+        public final float scale;
+
+        public BirdSpec(BirdType type, float x, float y, float scale) {
+            this.type = type;
+            this.x = x;
+            this.y = y;
+            this.scale = scale;
+        }
+    }
+
+    public static class StructureSpec {
+        public final Material material;
+        public final Orientation orientation;
+        // Which block sprite (2-4) the block switches to once damaged
+        public final int damageStage;
+        // Lower-left corner in pixels
+        public final float x;
+        public final float y;
+        public final float scale;
+        public final float health;
+
+        public StructureSpec(Material material, Orientation orientation, int damageStage,
+                             float x, float y, float scale, float health) {
+            this.material = material;
+            this.orientation = orientation;
+            this.damageStage = damageStage;
+            this.x = x;
+            this.y = y;
+            this.scale = scale;
+            this.health = health;
+        }
+
+        public String getTexturePath() {
+            return blockTexture(1);
+        }
+
+        public String getDamagedPath() {
+            return blockTexture(damageStage);
+        }
+
+        private String blockTexture(int stage) {
+            return orientation.textureName + "_" + material.textureName + "_block" + stage + ".png";
+        }
+    }
+
+    public static class PigSpec {
+        public final PigKind kind;
+        // Lower-left corner in pixels
+        public final float x;
+        public final float y;
+        public final float scale;
+        public final float health;
+
+        public PigSpec(PigKind kind, float x, float y, float scale, float health) {
+            this.kind = kind;
+            this.x = x;
+            this.y = y;
+            this.scale = scale;
+            this.health = health;
+        }
+    }
+
+    public final List<BirdSpec> birds = new ArrayList<>();
+    public final List<StructureSpec> structures = new ArrayList<>();
+    public final List<PigSpec> pigs = new ArrayList<>();
+}
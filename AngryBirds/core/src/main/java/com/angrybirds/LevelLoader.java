@@ -0,0 +1,221 @@
+package com.angrybirds;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * Reads level files and turns them into Box2D bodies.
+ * levels/levelN.bin is produced from levels/levelN.json by the compileLevels Gradle task and is
+ * preferred because it is a flat run of primitives; the JSON is used when no binary exists, e.g.
+ * while a level is being edited.
+ *
+ * Binary layout (big-endian, version 1):
+ * int magic "ABLV", short version,
+ * short birdCount, then per bird: byte type, float x, float y, float scale,
+ * short structureCount, then per block: byte material, byte orientation, byte damageStage,
+ * float x, float y, float scale, float health,
+ * short pigCount, then per pig: byte kind, float x, float y, float scale, float health.
+ */
+public final class LevelLoader {
+
+    public static final int MAGIC = 0x41424C56;
+    public static final int VERSION = 1;
+
+    private static final String LEVEL_FOLDER = "levels/";
+
+    private LevelLoader() {}
+
+    /**
+     * Load a level, preferring the compiled binary
+     * @param level Level number
+     * @return Level description; a single red bird and nothing else if the level has no file
+     */
+    public static LevelData load(int level) {
+        FileHandle binary = Gdx.files.internal(LEVEL_FOLDER + "level" + level + ".bin");
+        if (binary.exists()) {
+            return readBinary(binary);
+        }
+        FileHandle json = Gdx.files.internal(LEVEL_FOLDER + "level" + level + ".json");
+        if (json.exists()) {
+            return readJson(json);
+        }
+
+        GameLog.warn(GameLog.Category.GAME_STATE, "No level file found, using an empty level");
+        LevelData data = new LevelData();
+        data.birds.add(new LevelData.BirdSpec(LevelData.BirdType.RED, 0.5f, 5.1f, LevelData.BirdType.RED.defaultScale));
+        return data;
+    }
+
+    public static LevelData readBinary(FileHandle file) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(file.read()))) {
+            if (in.readInt() != MAGIC) {
+                throw new GdxRuntimeException("Not a level file: " + file.path());
+            }
+            int version = in.readShort();
+            if (version != VERSION) {
+                throw new GdxRuntimeException("Unsupported level version " + version + ": " + file.path());
+            }
+
+            LevelData data = new LevelData();
+            LevelData.BirdType[] birdTypes = LevelData.BirdType.values();
+            int birdCount = in.readShort();
+            for (int i = 0; i < birdCount; i++) {
+                data.birds.add(new LevelData.BirdSpec(birdTypes[in.readByte()],
+                    in.readFloat(), in.readFloat(), in.readFloat()));
+            }
+
+            LevelData.Material[] materials = LevelData.Material.values();
+            LevelData.Orientation[] orientations = LevelData.Orientation.values();
+            int structureCount = in.readShort();
+            for (int i = 0; i < structureCount; i++) {
+                data.structures.add(new LevelData.StructureSpec(materials[in.readByte()],
+                    orientations[in.readByte()], in.readByte(),
+                    in.readFloat(), in.readFloat(), in.readFloat(), in.readFloat()));
+            }
+
+            LevelData.PigKind[] pigKinds = LevelData.PigKind.values();
+            int pigCount = in.readShort();
+            for (int i = 0; i < pigCount; i++) {
+                data.pigs.add(new LevelData.PigSpec(pigKinds[in.readByte()],
+                    in.readFloat(), in.readFloat(), in.readFloat(), in.readFloat()));
+            }
+            return data;
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Could not read level " + file.path(), e);
+        }
+    }
+
+    /**
+     * Write a level in the binary layout above; used by the compileLevels task through LevelCompiler
+     * @param data Level description, e.g. from {@link #readJson(FileHandle)}
+     * @param file File to create or overwrite
+     */
+    public static void writeBinary(LevelData data, FileHandle file) {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file.write(false)))) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+
+            out.writeShort(data.birds.size());
+            for (LevelData.BirdSpec bird : data.birds) {
+                out.writeByte(bird.type.ordinal());
+                out.writeFloat(bird.x);
+                out.writeFloat(bird.y);
+                out.writeFloat(bird.scale);
+            }
+
+            out.writeShort(data.structures.size());
+            for (LevelData.StructureSpec block : data.structures) {
+                out.writeByte(block.material.ordinal());
+                out.writeByte(block.orientation.ordinal());
+                out.writeByte(block.damageStage);
+                out.writeFloat(block.x);
+                out.writeFloat(block.y);
+                out.writeFloat(block.scale);
+                out.writeFloat(block.health);
+            }
+
+            out.writeShort(data.pigs.size());
+            for (LevelData.PigSpec pig : data.pigs) {
+                out.writeByte(pig.kind.ordinal());
+                out.writeFloat(pig.x);
+                out.writeFloat(pig.y);
+                out.writeFloat(pig.scale);
+                out.writeFloat(pig.health);
+            }
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Could not write level " + file.path(), e);
+        }
+    }
+
+    public static LevelData readJson(FileHandle file) {
+        JsonValue root = new JsonReader().parse(file);
+        LevelData data = new LevelData();
+
+        for (JsonValue bird = root.getChild("birds"); bird != null; bird = bird.next) {
+            LevelData.BirdType type = enumValue(LevelData.BirdType.class, bird.getString("type"));
+            data.birds.add(new LevelData.BirdSpec(type, bird.getFloat("x"), bird.getFloat("y"),
+                bird.getFloat("scale", type.defaultScale)));
+        }
+
+        for (JsonValue block = root.getChild("structures"); block != null; block = block.next) {
+            data.structures.add(new LevelData.StructureSpec(
+                enumValue(LevelData.Material.class, block.getString("material")),
+                enumValue(LevelData.Orientation.class, block.getString("orientation")),
+                block.getInt("damageStage"),
+                block.getFloat("x"), block.getFloat("y"),
+                block.getFloat("scale", LevelData.DEFAULT_STRUCTURE_SCALE),
+                block.getFloat("health")));
+        }
+
+        for (JsonValue pig = root.getChild("pigs"); pig != null; pig = pig.next) {
+            data.pigs.add(new LevelData.PigSpec(
+                enumValue(LevelData.PigKind.class, pig.getString("kind")),
+                pig.getFloat("x"), pig.getFloat("y"),
+                pig.getFloat("scale", LevelData.DEFAULT_PIG_SCALE),
+                pig.getFloat("health")));
+        }
+        return data;
+    }
+
+    private static <E extends Enum<E>> E enumValue(Class<E> type, String name) {
+        return Enum.valueOf(type, name.toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Create the level's birds in queue order
+     * @param world World to create the bodies in
+     * @param data Level description
+     * @return Birds in the order they will be loaded into the slingshot
+     */
+    public static Bird[] createBirds(World world, LevelData data) {
+        Bird[] birds = new Bird[data.birds.size()];
+        for (int i = 0; i < birds.length; i++) {
+            LevelData.BirdSpec spec = data.birds.get(i);
+            switch (spec.type) {
+                case BLUE:
+                    birds[i] = new BlueBird(world, spec.x, spec.y, spec.scale);
+                    break;
+                case BLACK:
+                    birds[i] = new BlackBird(world, spec.x, spec.y, spec.scale);
+                    break;
+                case YELLOW:
+                    birds[i] = new YellowBird(world, spec.x, spec.y, spec.scale);
+                    break;
+                default:
+                    birds[i] = new RedBird(world, spec.x, spec.y, spec.scale);
+                    break;
+            }
+        }
+        return birds;
+    }
+
+    /**
+     * Create the level's blocks and pigs, blocks first so creation order is stable
+     * @param world World to create the bodies in
+     * @param data Level description
+     * @param structures Registry receiving the blocks
+     * @param pigs Registry receiving the pigs
+     */
+    public static void createEntities(World world, LevelData data,
+                                      EntityRegistry<Structure> structures, EntityRegistry<Pig> pigs) {
+        for (LevelData.StructureSpec spec : data.structures) {
+            structures.add(new Structure(world, spec.getTexturePath(), spec.getDamagedPath(),
+                spec.material.debrisPath, spec.x, spec.y, spec.scale, spec.health));
+        }
+        for (LevelData.PigSpec spec : data.pigs) {
+            pigs.add(new Pig(world, spec.kind.texturePath, spec.kind.damagedPath,
+                spec.x, spec.y, spec.scale, spec.health));
+        }
+    }
+}
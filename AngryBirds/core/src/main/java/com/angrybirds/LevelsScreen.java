@@ -8,7 +8,6 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.ImageButton;
-import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
@@ -20,7 +19,6 @@ import com.badlogic.gdx.files.FileHandle;
 public class LevelsScreen implements Screen {
 
     private Stage stage;
-    private Skin skin;
     private Game game;
     private Texture backgroundTexture;
     private SpriteBatch batch;
@@ -41,14 +39,13 @@ public class LevelsScreen implements Screen {
         batch = new SpriteBatch();
         Gdx.input.setInputProcessor(stage);
 
-        skin = new Skin(Gdx.files.internal("uiskin.json"));
-        backgroundTexture = new Texture(Gdx.files.internal("levels_screen_bg.png"));
+        backgroundTexture = Assets.texture("levels_screen_bg.png");
 
         ImageButton level1Button = createLevelButton("level1.png", "level1_hover.png", 1, 100, 100);
         ImageButton level2Button = createLevelButton("level2.png", "level2_hover.png", 2, 100, 100);
         ImageButton level3Button = createLevelButton("level3.png", "level3_hover.png", 3, 100, 100);
 
-        backgroundMusic = Gdx.audio.newMusic(Gdx.files.internal("main_theme_song.mp3"));
+        backgroundMusic = Assets.music("main_theme_song.mp3");
         backgroundMusic.setLooping(true); // Loop the music
         backgroundMusic.play();
 
@@ -95,8 +92,8 @@ public class LevelsScreen implements Screen {
     }
 
     private ImageButton createLevelButton(String normalImagePath, String hoverImagePath, int levelNumber, float width, float height) {
-        Texture normalTexture = new Texture(Gdx.files.internal(normalImagePath));
-        Texture hoverTexture = new Texture(Gdx.files.internal(hoverImagePath));
+        Texture normalTexture = Assets.texture(normalImagePath);
+        Texture hoverTexture = Assets.texture(hoverImagePath);
 
         TextureRegionDrawable normalDrawable = new TextureRegionDrawable(normalTexture);
         TextureRegionDrawable hoverDrawable = new TextureRegionDrawable(hoverTexture);
@@ -118,8 +115,8 @@ public class LevelsScreen implements Screen {
 
     private ImageButton createBackButton(float width, float height) {
 
-        Texture backNormalTexture = new Texture(Gdx.files.internal("back.png"));
-        Texture backHoverTexture = new Texture(Gdx.files.internal("back_hover.png"));
+        Texture backNormalTexture = Assets.texture("back.png");
+        Texture backHoverTexture = Assets.texture("back_hover.png");
 
 
         TextureRegionDrawable backNormalDrawable = new TextureRegionDrawable(backNormalTexture);
@@ -178,13 +175,9 @@ public class LevelsScreen implements Screen {
 
     @Override
     public void dispose() {
-        backgroundTexture.dispose();
+        // Textures and music are owned by Assets
         stage.dispose();
-        skin.dispose();
         batch.dispose();
-        if (backgroundMusic != null) {
-            backgroundMusic.dispose();
-        }
     }
 }
 
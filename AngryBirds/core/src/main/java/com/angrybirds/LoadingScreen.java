@@ -3,7 +3,9 @@ package com.angrybirds;
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
@@ -11,9 +13,14 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 
 public class LoadingScreen implements Screen {
 
+    private static final String BACKGROUND = "main_menu_bg.jpg";
+    private static final float BAR_HEIGHT = 16f;
+    private static final float BAR_MARGIN = 40f;
+
     private Game game;
     private Stage stage;
     private Texture backgroundTexture;
+    private Texture barTexture;
     private SpriteBatch batch;
 
     public LoadingScreen(Game game) {
@@ -24,16 +31,43 @@ public class LoadingScreen implements Screen {
     public void show() {
         stage = new Stage(new ScreenViewport());
         batch = new SpriteBatch();
-        backgroundTexture = new Texture(Gdx.files.internal("loading_screen_bg.jpg"));
-        Gdx.app.postRunnable(() -> game.setScreen(new FirstScreen(game)));
+
+        // Only the loading background is read up front, everything else streams in below
+        backgroundTexture = Assets.texture(BACKGROUND);
+
+        Pixmap pixel = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+        pixel.setColor(Color.WHITE);
+        pixel.fill();
+        barTexture = new Texture(pixel);
+        pixel.dispose();
+
+        Assets.queue(Assets.MENU);
+        Assets.queue(Assets.LEVELS);
+        Assets.queue(Assets.GAME);
+        if (!Gdx.files.internal(Assets.GAME_ATLAS).exists()) {
+            // No packed atlas in this build, so fall back to one texture per sprite
+            Assets.queue(Assets.SPRITES);
+        }
+        Assets.queue(Assets.RESULTS);
     }
 
     @Override
     public void render(float delta) {
+        if (Assets.update()) {
+            game.setScreen(new MainMenuScreen(game));
+            return;
+        }
+
+        float barWidth = Gdx.graphics.getWidth() - BAR_MARGIN * 2;
+
         Gdx.gl.glClearColor(0, 0, 0, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
         batch.begin();
         batch.draw(backgroundTexture, 0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        batch.setColor(Color.DARK_GRAY);
+        batch.draw(barTexture, BAR_MARGIN, BAR_MARGIN, barWidth, BAR_HEIGHT);
+        batch.setColor(Color.WHITE);
+        batch.draw(barTexture, BAR_MARGIN, BAR_MARGIN, barWidth * Assets.getProgress(), BAR_HEIGHT);
         batch.end();
         stage.act(delta);
         stage.draw();
@@ -51,11 +85,14 @@ public class LoadingScreen implements Screen {
     public void resume() {}
 
     @Override
-    public void hide() {}
+    public void hide() {
+        dispose();
+    }
 
     @Override
     public void dispose() {
-        backgroundTexture.dispose();
+        // The background belongs to the AssetManager and is reused by the main menu
+        barTexture.dispose();
         stage.dispose();
         batch.dispose();
     }
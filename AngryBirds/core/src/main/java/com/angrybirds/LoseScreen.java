@@ -10,7 +10,6 @@ import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
 import com.badlogic.gdx.scenes.scene2d.ui.ImageButton;
-import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
@@ -19,8 +18,9 @@ public class LoseScreen implements Screen {
     private Game game;
     private Stage stage;
     private OrthographicCamera camera;
-    private Skin skin;
     private int currentLevel;
+    // Screen of the lost level, restarted in place; null when there is none to go back to
+    private GameScreen gameScreen;
     private Music backgroundMusic;
 
     // Textures for buttons and background
@@ -31,8 +31,13 @@ public class LoseScreen implements Screen {
     private Texture backgroundTexture;
 
     public LoseScreen(Game game, int currentLevel) {
+        this(game, currentLevel, null);
+    }
+
+    public LoseScreen(Game game, int currentLevel, GameScreen gameScreen) {
         this.game = game;
         this.currentLevel = currentLevel;
+        this.gameScreen = gameScreen;
     }
 
     @Override
@@ -43,33 +48,41 @@ public class LoseScreen implements Screen {
         stage = new Stage(new ScreenViewport());
         Gdx.input.setInputProcessor(stage);
 
-        // Load background texture
-        backgroundTexture = new Texture(Gdx.files.internal("losescreen.png"));
+        // Background texture
+        backgroundTexture = Assets.texture("losescreen.png");
         Image backgroundImage = new Image(backgroundTexture);
         backgroundImage.setFillParent(true);
 
-        // Load background music
-        backgroundMusic = Gdx.audio.newMusic(Gdx.files.internal("angry-birds-level-failed-1.mp3"));
+        // Background music
+        backgroundMusic = Assets.music("angry-birds-level-failed-1.mp3");
         backgroundMusic.setLooping(false);
         backgroundMusic.play();
 
-        // Load button textures
-        restartTexture = new Texture(Gdx.files.internal("restart.png"));
-        restartHoverTexture = new Texture(Gdx.files.internal("restart_hover.png"));
-        levelsTexture = new Texture(Gdx.files.internal("go_to_levels.png"));
-        levelsHoverTexture = new Texture(Gdx.files.internal("go_to_levels_hover.png"));
+        // Button textures
+        restartTexture = Assets.texture("restart.png");
+        restartHoverTexture = Assets.texture("restart_hover.png");
+        levelsTexture = Assets.texture("go_to_levels.png");
+        levelsHoverTexture = Assets.texture("go_to_levels_hover.png");
 
         // Create buttons
         ImageButton restartButton = createImageButton(restartTexture, restartHoverTexture, () -> {
             // Restart current level
             backgroundMusic.stop();
-            game.setScreen(new GameScreen(game, currentLevel));
+            if (gameScreen != null) {
+                gameScreen.restart();
+                game.setScreen(gameScreen);
+            } else {
+                game.setScreen(new GameScreen(game, currentLevel));
+            }
             dispose();
         });
 
         ImageButton levelsButton = createImageButton(levelsTexture, levelsHoverTexture, () -> {
             // Return to levels screen
             backgroundMusic.stop();
+            if (gameScreen != null) {
+                gameScreen.dispose();
+            }
             game.setScreen(new LevelsScreen(game));
             dispose();
         });
@@ -132,12 +145,7 @@ public class LoseScreen implements Screen {
 
     @Override
     public void dispose() {
+        // Textures and music are owned by Assets
         stage.dispose();
-        restartTexture.dispose();
-        restartHoverTexture.dispose();
-        levelsTexture.dispose();
-        levelsHoverTexture.dispose();
-        backgroundTexture.dispose();
-        backgroundMusic.dispose();
     }
 }
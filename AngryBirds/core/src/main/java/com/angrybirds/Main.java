@@ -5,7 +5,14 @@ import com.badlogic.gdx.Game;
 public class Main extends Game {
     @Override
     public void create() {
-       
-        setScreen(new MainMenuScreen(this));
+        setScreen(new LoadingScreen(this));
+    }
+
+    @Override
+    public void dispose() {
+        super.dispose();
+        TextureCache.clear();
+        Assets.dispose();
+        GameLog.flush();
     }
 }
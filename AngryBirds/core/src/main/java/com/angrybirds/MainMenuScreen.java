@@ -10,14 +10,11 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.ImageButton;
-import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
-import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.files.FileHandle;
 
@@ -25,7 +22,6 @@ public class MainMenuScreen implements Screen {
 
     private Game game;
     private Stage stage;
-    private Skin skin;
     private Texture backgroundTexture;
     private SpriteBatch batch;
     private OrthographicCamera camera;
@@ -47,22 +43,21 @@ public class MainMenuScreen implements Screen {
         stage = new Stage(new ScreenViewport(camera));
         batch = new SpriteBatch();
         Gdx.input.setInputProcessor(stage);
-        skin = new Skin(Gdx.files.internal("uiskin.json"));
-        backgroundTexture = new Texture(Gdx.files.internal("main_menu_bg.jpg"));
-        playTexture = new Texture(Gdx.files.internal("Play.png"));
-        playHoverTexture = new Texture(Gdx.files.internal("Play_hover.png"));
-        exitTexture = new Texture(Gdx.files.internal("exit.png"));
-        exitHoverTexture = new Texture(Gdx.files.internal("EXIT_hover.png"));
-
-        backgroundMusic = Gdx.audio.newMusic(Gdx.files.internal("main_theme_song.mp3"));
+        backgroundTexture = Assets.texture("main_menu_bg.jpg");
+        playTexture = Assets.texture("Play.png");
+        playHoverTexture = Assets.texture("Play_hover.png");
+        exitTexture = Assets.texture("exit.png");
+        exitHoverTexture = Assets.texture("EXIT_hover.png");
+
+        backgroundMusic = Assets.music("main_theme_song.mp3");
         backgroundMusic.setLooping(true);
         backgroundMusic.play();
 
-        ImageButton playButton = new ImageButton(new TextureRegionDrawable(new TextureRegion(playTexture)));
-        playButton.addListener(new HoverClickListener(playButton, "Play.png", "Play_hover.png", game, new FirstScreen(game), false, false));
+        ImageButton playButton = new ImageButton(createButtonStyle(playTexture, playHoverTexture));
+        playButton.addListener(new HoverClickListener(playButton, game, new FirstScreen(game), false, false));
 
-        ImageButton exitButton = new ImageButton(new TextureRegionDrawable(new TextureRegion(exitTexture)));
-        exitButton.addListener(new HoverClickListener(exitButton, "exit.png", "EXIT_hover.png", game, null, true, false));
+        ImageButton exitButton = new ImageButton(createButtonStyle(exitTexture, exitHoverTexture));
+        exitButton.addListener(new HoverClickListener(exitButton, game, null, true, false));
 
         Table table = new Table();
         table.setFillParent(true);
@@ -74,6 +69,20 @@ public class MainMenuScreen implements Screen {
         stage.addActor(table);
     }
 
+    /**
+     * Build a button style whose up, over and down images are created once per screen
+     * @param normalTexture Image shown at rest
+     * @param hoverTexture Image shown while hovered or pressed
+     * @return Style shared by the button for its whole lifetime
+     */
+    private ImageButton.ImageButtonStyle createButtonStyle(Texture normalTexture, Texture hoverTexture) {
+        ImageButton.ImageButtonStyle style = new ImageButton.ImageButtonStyle();
+        style.imageUp = new TextureRegionDrawable(normalTexture);
+        style.imageOver = new TextureRegionDrawable(hoverTexture);
+        style.imageDown = style.imageOver;
+        return style;
+    }
+
     private void saveCurrentGame() {
         FileHandle file = Gdx.files.local("saved_game.txt");
         int currentLevel = 1;
@@ -117,18 +126,9 @@ public class MainMenuScreen implements Screen {
 
     @Override
     public void dispose() {
+        // Textures and music are owned by Assets
         stage.dispose();
-        skin.dispose();
         batch.dispose();
-        backgroundTexture.dispose();
-        playTexture.dispose();
-        playHoverTexture.dispose();
-        exitTexture.dispose();
-        exitHoverTexture.dispose();
-
-        if (backgroundMusic != null) {
-            backgroundMusic.dispose();
-        }
     }
 
     public void playButtonClicked() {
@@ -141,38 +141,26 @@ public class MainMenuScreen implements Screen {
         return gamePlayed;
     }
 
+    /**
+     * Hover and press images come from the button's prebuilt style, so this only handles the click
+     */
     private class HoverClickListener extends ClickListener {
         private final ImageButton button;
-        private final String normalTexturePath;
-        private final String hoverTexturePath;
         private final Game game;
         private final Screen nextScreen;
         private final boolean isExit;
         private final boolean isLoad;
 
-        public HoverClickListener(ImageButton button, String normalTexturePath, String hoverTexturePath, Game game, Screen nextScreen, boolean isExit, boolean isLoad) {
+        public HoverClickListener(ImageButton button, Game game, Screen nextScreen, boolean isExit, boolean isLoad) {
             this.button = button;
-            this.normalTexturePath = normalTexturePath;
-            this.hoverTexturePath = hoverTexturePath;
             this.game = game;
             this.nextScreen = nextScreen;
             this.isExit = isExit;
             this.isLoad = isLoad;
         }
 
-        @Override
-        public void enter(InputEvent event, float x, float y, int pointer, Actor fromActor) {
-            button.getStyle().imageUp = new TextureRegionDrawable(new Texture(Gdx.files.internal(hoverTexturePath)));
-        }
-
-        @Override
-        public void exit(InputEvent event, float x, float y, int pointer, Actor toActor) {
-            button.getStyle().imageUp = new TextureRegionDrawable(new Texture(Gdx.files.internal(normalTexturePath)));
-        }
-
         @Override
         public void clicked(InputEvent event, float x, float y) {
-            button.getStyle().imageUp = new TextureRegionDrawable(new Texture(Gdx.files.internal(hoverTexturePath)));
             button.setTransform(true);
             button.setScale(0.95f);
 
@@ -180,12 +168,10 @@ public class MainMenuScreen implements Screen {
                 if (nextScreen != null) {
                     game.setScreen(nextScreen);
                 } else if (isExit) {
-                    
                     Gdx.app.exit();
                 } else if (isLoad) {
                     loadSavedGame();
                 }
-                button.getStyle().imageUp = new TextureRegionDrawable(new Texture(Gdx.files.internal(normalTexturePath)));
                 button.setScale(1.0f);
             });
         }
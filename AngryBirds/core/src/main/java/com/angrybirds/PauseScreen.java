@@ -7,7 +7,6 @@ import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.scenes.scene2d.Stage;
-import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
@@ -20,7 +19,6 @@ public class PauseScreen implements Screen {
     private Game game;
     private int level;
     private Stage stage;
-    private Skin skin;
     private GameScreen gameScreen;
     private Texture backgroundTexture;
     private SpriteBatch batch;
@@ -41,12 +39,11 @@ public class PauseScreen implements Screen {
         batch = new SpriteBatch();
         Gdx.input.setInputProcessor(stage);
 
-        skin = new Skin(Gdx.files.internal("uiskin.json"));
-        backgroundTexture = new Texture(Gdx.files.internal("pause_screen_bg.jpg"));
+        backgroundTexture = Assets.texture("pause_screen_bg.jpg");
 
-        Texture restartButtonTexture = new Texture(Gdx.files.internal("restart.png"));
-        Texture restartButtonHoverTexture = new Texture(Gdx.files.internal("restart_hover.png"));
-        Texture restartButtonPressedTexture = new Texture(Gdx.files.internal("restart_pressed.png"));
+        Texture restartButtonTexture = Assets.texture("restart.png");
+        Texture restartButtonHoverTexture = Assets.texture("restart_hover.png");
+        Texture restartButtonPressedTexture = Assets.texture("restart_pressed.png");
 
         TextureRegionDrawable restartNormalDrawable = new TextureRegionDrawable(restartButtonTexture);
         TextureRegionDrawable restartHoverDrawable = new TextureRegionDrawable(restartButtonHoverTexture);
@@ -56,13 +53,15 @@ public class PauseScreen implements Screen {
         restartButton.addListener(new ClickListener() {
             @Override
             public void clicked(com.badlogic.gdx.scenes.scene2d.InputEvent event, float x, float y) {
-                game.setScreen(new GameScreen(game, level));
+                // Restored in place, no assets are reloaded
+                gameScreen.restart();
+                game.setScreen(gameScreen);
             }
         });
 
-        Texture levelsButtonTexture = new Texture(Gdx.files.internal("go_to_levels.png"));
-        Texture levelsButtonHoverTexture = new Texture(Gdx.files.internal("go_to_levels_hover.png"));
-        Texture levelsButtonPressedTexture = new Texture(Gdx.files.internal("go_to_levels_pressed.png"));
+        Texture levelsButtonTexture = Assets.texture("go_to_levels.png");
+        Texture levelsButtonHoverTexture = Assets.texture("go_to_levels_hover.png");
+        Texture levelsButtonPressedTexture = Assets.texture("go_to_levels_pressed.png");
 
         TextureRegionDrawable levelsNormalDrawable = new TextureRegionDrawable(levelsButtonTexture);
         TextureRegionDrawable levelsHoverDrawable = new TextureRegionDrawable(levelsButtonHoverTexture);
@@ -72,13 +71,15 @@ public class PauseScreen implements Screen {
         levelsButton.addListener(new ClickListener() {
             @Override
             public void clicked(com.badlogic.gdx.scenes.scene2d.InputEvent event, float x, float y) {
+                // The paused level is not coming back
+                gameScreen.dispose();
                 game.setScreen(new LevelsScreen(game));
             }
         });
 
-        Texture resumeButtonTexture = new Texture(Gdx.files.internal("resume.png"));
-        Texture resumeButtonHoverTexture = new Texture(Gdx.files.internal("resume_hover.png"));
-        Texture resumeButtonPressedTexture = new Texture(Gdx.files.internal("resume_pressed.png"));
+        Texture resumeButtonTexture = Assets.texture("resume.png");
+        Texture resumeButtonHoverTexture = Assets.texture("resume_hover.png");
+        Texture resumeButtonPressedTexture = Assets.texture("resume_pressed.png");
 
         TextureRegionDrawable resumeNormalDrawable = new TextureRegionDrawable(resumeButtonTexture);
         TextureRegionDrawable resumeHoverDrawable = new TextureRegionDrawable(resumeButtonHoverTexture);
@@ -137,9 +138,8 @@ public class PauseScreen implements Screen {
 
     @Override
     public void dispose() {
-        backgroundTexture.dispose();
+        // Textures are owned by Assets
         stage.dispose();
-        skin.dispose();
         batch.dispose();
     }
 }
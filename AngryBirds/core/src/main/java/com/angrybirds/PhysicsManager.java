@@ -1,10 +1,9 @@
 package com.angrybirds;
 
-import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
 
 // PhysicsManager.java
-class PhysicsManager implements ContactListener {
+class PhysicsManager {
     private World world;
     private static final float FRICTION = 0.8f;
     private static final float RESTITUTION = 0.3f;
@@ -13,7 +12,6 @@ class PhysicsManager implements ContactListener {
 
     public PhysicsManager(World world) {
         this.world = world;
-        world.setContactListener(this);
     }
 
     public Body createStructureBody(float x, float y, float width, float height, float density) {
@@ -33,61 +31,11 @@ class PhysicsManager implements ContactListener {
         fixtureDef.density = density;
         fixtureDef.friction = FRICTION;
         fixtureDef.restitution = RESTITUTION;
+        fixtureDef.filter.categoryBits = BodyCategory.STRUCTURE.bits;
 
         body.createFixture(fixtureDef);
         shape.dispose();
 
         return body;
     }
-
-    @Override
-    public void beginContact(Contact contact) {
-        Fixture fixtureA = contact.getFixtureA();
-        Fixture fixtureB = contact.getFixtureB();
-        Body bodyA = fixtureA.getBody();
-        Body bodyB = fixtureB.getBody();
-
-        float impactForce = calculateImpactForce(bodyA, bodyB);
-
-        WorldManifold manifold = contact.getWorldManifold();
-        if (manifold.getNumberOfContactPoints() > 0) {
-            applyRotationalForce(bodyA, bodyB, manifold.getPoints()[0], impactForce);
-        }
-    }
-
-    private float calculateImpactForce(Body bodyA, Body bodyB) {
-        float relativeVelocityX = bodyA.getLinearVelocity().x - bodyB.getLinearVelocity().x;
-        float relativeVelocityY = bodyA.getLinearVelocity().y - bodyB.getLinearVelocity().y;
-        return (float) Math.sqrt(relativeVelocityX * relativeVelocityX + relativeVelocityY * relativeVelocityY);
-    }
-
-    private void applyRotationalForce(Body bodyA, Body bodyB, Vector2 contactPoint, float impactForce) {
-        applyTorqueToBody(bodyA, contactPoint, impactForce);
-        applyTorqueToBody(bodyB, contactPoint, -impactForce);
-    }
-
-    private void applyTorqueToBody(Body body, Vector2 contactPoint, float impactForce) {
-        if (body.getType() == BodyDef.BodyType.DynamicBody) {
-            Vector2 centerOfMass = body.getWorldCenter();
-            Vector2 torqueArm = contactPoint.cpy().sub(centerOfMass);
-            float torque = torqueArm.len() * impactForce * 0.1f;
-            body.applyTorque(torque, true);
-        }
-    }
-
-    @Override
-    public void endContact(Contact contact) {}
-
-    @Override
-    public void preSolve(Contact contact, Manifold oldManifold) {
-        Fixture fixtureA = contact.getFixtureA();
-        Fixture fixtureB = contact.getFixtureB();
-
-        if (fixtureA.getUserData() instanceof Structure && fixtureB.getUserData() instanceof Structure) {
-            contact.setFriction(FRICTION * 1.2f);
-        }
-    }
-
-    @Override
-    public void postSolve(Contact contact, ContactImpulse impulse) {}
 }
@@ -1,17 +1,21 @@
 package com.angrybirds;
 
 import com.badlogic.gdx.physics.box2d.*;
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.Rectangle;
 
-public class Pig implements GameObject {
-    private Texture texture;
+public class Pig implements GameObject, Damageable, EntityRegistry.Member {
+    // Both sprites are bound on first draw, so the pig can be simulated without a GL context
+    private TextureRegion region;
+    private boolean showDamaged = false;
+    private String texturePath;
+    private String damagedPath;
     private Vector2 position;
     private float width;
-    private Texture damagedtexture;
+    private TextureRegion damagedRegion;
     private float height;
     private Body body;
     private float scale;
@@ -21,21 +25,31 @@ public class Pig implements GameObject {
     private float maxHealth;
 
     public static final float PPM = 100.0f; // Pixels Per Meter, matching Bird class
+
+    // Body transform before the latest physics step, for interpolated drawing
+    private final Vector2 previousPosition = new Vector2();
+    private float previousAngle;
     private boolean isdestroyed=false;
+    private int damageSlot = -1;
+    private int registryHandle = EntityRegistry.INVALID_HANDLE;
 
     // Physics parameters
     private float rotationDamping = 0.9f;
-    private float groundFrictionMultiplier = 1.5f;
     private float maxRotationSpeed = 5.0f;
+    // A pig this slow for REST_STEPS steps in a row is stopped
+    private static final float REST_LINEAR_VELOCITY = 0.05f;
+    private static final float REST_ANGULAR_VELOCITY = 0.2f;
+    private static final int REST_STEPS = 30;
+    private int restSteps;
 
     public Pig(World world, String texturePath,String damagedpath, float x, float y, float scale,float maxHealth) {
-        this.texture = loadTexture(texturePath);
-        this.damagedtexture = new Texture(Gdx.files.internal(damagedpath));
+        this.texturePath = texturePath;
+        this.damagedPath = damagedpath;
         this.position = new Vector2(x, y);
 
         this.maxHealth = maxHealth;
-        this.width = texture.getWidth() * scale;
-        this.height = texture.getHeight() * scale;
+        this.width = SpriteMetrics.getWidth(texturePath) * scale;
+        this.height = SpriteMetrics.getHeight(texturePath) * scale;
         this.maxHealth = maxHealth;
         this.health = maxHealth;
 
@@ -50,6 +64,13 @@ public class Pig implements GameObject {
         );
 
         body.setUserData(this);
+        captureTransform();
+    }
+
+    @Override
+    public void captureTransform() {
+        previousPosition.set(body.getPosition());
+        previousAngle = body.getAngle();
     }
 
     public boolean isDestroyed() {
@@ -71,6 +92,7 @@ public class Pig implements GameObject {
 //        return health <= 0;
 //    }
 
+    @Override
     public float getHealth() {
         return health;
     }
@@ -83,10 +105,11 @@ public class Pig implements GameObject {
         return (health / maxHealth) * 100f;
     }
 
+    @Override
     public void applyDamage(float damage) {
         health -= damage;
         if(health<0.6f*maxHealth && health>0){
-            texture=damagedtexture;
+            showDamaged = true;
         }
         else if(health <= 0) {
             isdestroyed = true;
@@ -112,48 +135,63 @@ public class Pig implements GameObject {
         return baseDensity;
     }
 
+    /**
+     * Rolling resistance, run once per physics step. Box2D does not model it, so a pig on flat
+     * ground keeps rolling for many seconds just above the sleep threshold and holds everything
+     * it touches awake. Once it has been nearly still for a while it is stopped, and Box2D puts
+     * it to sleep with its island. Stopping rather than forcing sleep keeps Box2D's sleep timers
+     * running for the rest of the island. Friction stays at the value the body was made with.
+     */
     public void update(float deltaTime) {
-        // Apply rotation damping
+        if (!body.isAwake()) {
+            restSteps = 0;
+            return;
+        }
         float currentAngularVelocity = body.getAngularVelocity();
         if (Math.abs(currentAngularVelocity) > maxRotationSpeed) {
             body.setAngularVelocity(Math.signum(currentAngularVelocity) * maxRotationSpeed);
         }
 
-        // Check if pig is on ground and moving
-        if (isOnGround()) {
-            // Increase friction when on ground
-            for (Fixture fixture : body.getFixtureList()) {
-                fixture.setFriction(fixture.getFriction() * groundFrictionMultiplier);
+        Vector2 linearVelocity = body.getLinearVelocity();
+        if (linearVelocity.len2() < REST_LINEAR_VELOCITY * REST_LINEAR_VELOCITY &&
+            Math.abs(currentAngularVelocity) < REST_ANGULAR_VELOCITY) {
+            if (++restSteps >= REST_STEPS) {
+                body.setLinearVelocity(0f, 0f);
+                body.setAngularVelocity(0f);
+                restSteps = 0;
             }
-
-            // Apply additional torque based on linear velocity
-            Vector2 linearVelocity = body.getLinearVelocity();
-            float torqueIntensity = Math.abs(linearVelocity.x) * 10f;
-            body.applyTorque(linearVelocity.x > 0 ? torqueIntensity : -torqueIntensity, true);
+        } else {
+            restSteps = 0;
         }
     }
 
-    private boolean isOnGround() {
-        // Simplified ground check
-        return Math.abs(body.getLinearVelocity().y) < 0.1f;
+    @Override
+    public void draw(Batch batch) {
+        draw(batch, 1f);
     }
 
     @Override
-    public void draw(Batch batch) {
-        if (!isdestroyed) {// Rotate the sprite based on the body's angle
-            batch.draw(texture,
-                body.getPosition().x * PPM - (width / 2),
-                body.getPosition().y * PPM - (height / 2),
+    public void draw(Batch batch, float alpha) {
+        if (!isdestroyed) {
+            if (region == null) {
+                region = TextureCache.obtain(texturePath);
+                damagedRegion = TextureCache.obtain(damagedPath);
+            }
+            Vector2 current = body.getPosition();
+            float x = MathUtils.lerp(previousPosition.x, current.x, alpha) * PPM;
+            float y = MathUtils.lerp(previousPosition.y, current.y, alpha) * PPM;
+            float angle = MathUtils.lerp(previousAngle, body.getAngle(), alpha);
+
+            // Rotate the sprite based on the body's angle
+            batch.draw(showDamaged ? damagedRegion : region,
+                x - (width / 2),
+                y - (height / 2),
                 width / 2,
                 height / 2,
                 width,
                 height,
                 1, 1,
-                (float) Math.toDegrees(body.getAngle()),
-                0, 0,
-                texture.getWidth(),
-                texture.getHeight(),
-                false, false);
+                angle * MathUtils.radiansToDegrees);
         }
     }
 
@@ -162,22 +200,77 @@ public class Pig implements GameObject {
     }
 
     public Vector2 getPosition() {
-        return new Vector2(body.getPosition().x * PPM, body.getPosition().y * PPM);
+        return getPosition(new Vector2());
+    }
+
+    /**
+     * Position without allocating
+     * @param out Receives the centre in pixels
+     * @return out
+     */
+    public Vector2 getPosition(Vector2 out) {
+        return out.set(body.getPosition().x * PPM, body.getPosition().y * PPM);
     }
 
     public Rectangle getBoundingBox() {
-        return new Rectangle(body.getPosition().x * PPM, body.getPosition().y * PPM, width, height);
+        return getBoundingBox(new Rectangle());
+    }
+
+    /**
+     * Bounding box without allocating, for per-event and per-frame callers
+     * @param out Receives the bounds in pixels
+     * @return out
+     */
+    public Rectangle getBoundingBox(Rectangle out) {
+        return out.set(body.getPosition().x * PPM, body.getPosition().y * PPM, width, height);
     }
 
     @Override
     public void dispose() {
-        texture.dispose();
+        if (disposed) {
+            return;
+        }
+        // Both textures are shared with other pigs, so only drop this pig's references
+        if (region != null) {
+            TextureCache.release(texturePath);
+            TextureCache.release(damagedPath);
+            region = null;
+            damagedRegion = null;
+        }
         disposed = true;
         isdestroyed = true;
     }
 
-    private Texture loadTexture(String texturePath) {
-        return new Texture(Gdx.files.internal(texturePath));
+    @Override
+    public int getDamageSlot() {
+        return damageSlot;
+    }
+
+    @Override
+    public void setDamageSlot(int slot) {
+        this.damageSlot = slot;
+    }
+
+    @Override
+    public int getRegistryHandle() {
+        return registryHandle;
+    }
+
+    @Override
+    public void setRegistryHandle(int handle) {
+        this.registryHandle = handle;
+    }
+
+    /**
+     * Bring a destroyed pig back for a level restart
+     * @param health Health to restart with
+     */
+    void reset(float health) {
+        this.health = health;
+        showDamaged = health > 0 && health < 0.6f * maxHealth;
+        isdestroyed = false;
+        disposed = false;
+        restSteps = 0;
     }
 
     public Body getBody() {
@@ -0,0 +1,203 @@
+package com.angrybirds;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Every input a GameSimulation received, stamped with the physics step it arrived before.
+ * The simulation advances in fixed steps, creates its bodies in a stable order and draws random
+ * numbers only from its seed, so applying the same inputs at the same steps to a fresh simulation
+ * reproduces the run bit for bit on the same platform. Inputs are kept in flat arrays and written
+ * as 13 bytes each, so a whole level fits in a few kilobytes.
+ * A restart in place leaves Box2D's contact state from the attempt before it (see
+ * {@link GameSimulation#restart()}), so the recording carries on across restarts: a RESTART input
+ * makes the replaying simulation restart at the same point, and step numbers count from 0 after it.
+ *
+ * File layout (big-endian, version 4). Older runs replay differently and are rejected:
+ * version 2 gave every bird a single fixture, 3 stopped stepping the world once it settled,
+ * 4 put debris bodies in the world.
+ * int magic "ABRP", short version, short level, long seed,
+ * int inputCount, then per input: int step, byte type, float x, float y.
+ */
+public class Replay {
+
+    public enum Input {
+        // Picked up the loaded bird
+        DRAG_START,
+        // Moved the dragged bird to x, y in pixels
+        DRAG,
+        // Let go with a pull of x, y pixels from the slingshot centre
+        RELEASE,
+        // Tapped to trigger the flying bird's ability
+        ABILITY,
+        // The level's right edge moved to x pixels, e.g. the window was resized
+        WORLD_WIDTH,
+        // Started the level over in place
+        RESTART
+    }
+
+    public static final int MAGIC = 0x41425250;
+    public static final int VERSION = 4;
+
+    private static final Input[] INPUTS = Input.values();
+
+    private final int level;
+    private final long seed;
+
+    private int[] steps;
+    private byte[] types;
+    private float[] xs;
+    private float[] ys;
+    private int count;
+
+    /**
+     * @param level Level number the run is played on
+     * @param seed Seed the simulation was created with
+     */
+    public Replay(int level, long seed) {
+        this(level, seed, 64);
+    }
+
+    /**
+     * @param level Level number the run is played on
+     * @param seed Seed the simulation was created with
+     * @param capacity Inputs to make room for up front; recording past it grows the arrays
+     */
+    public Replay(int level, long seed, int capacity) {
+        this.level = level;
+        this.seed = seed;
+        steps = new int[capacity];
+        types = new byte[capacity];
+        xs = new float[capacity];
+        ys = new float[capacity];
+    }
+
+    /**
+     * Append an input; steps must not decrease, except right after a RESTART
+     * @param step Number of physics steps taken before the input
+     */
+    public void record(int step, Input input, float x, float y) {
+        if (count == steps.length) {
+            int capacity = Math.max(64, count * 2);
+            steps = Arrays.copyOf(steps, capacity);
+            types = Arrays.copyOf(types, capacity);
+            xs = Arrays.copyOf(xs, capacity);
+            ys = Arrays.copyOf(ys, capacity);
+        }
+        steps[count] = step;
+        types[count] = (byte) input.ordinal();
+        xs[count] = x;
+        ys[count] = y;
+        count++;
+    }
+
+    /**
+     * Feed a simulation the inputs due before its next step
+     * @param simulation Simulation replaying this run
+     * @param cursor Index of the first input not applied yet, 0 at the start
+     * @return Index of the first input still to come
+     */
+    public int apply(GameSimulation simulation, int cursor) {
+        int step = simulation.getStep();
+        while (cursor < count && steps[cursor] <= step) {
+            switch (INPUTS[types[cursor]]) {
+                case DRAG_START:
+                    simulation.beginDrag();
+                    break;
+                case DRAG:
+                    simulation.dragBirdTo(xs[cursor], ys[cursor]);
+                    break;
+                case RELEASE:
+                    simulation.release(xs[cursor], ys[cursor]);
+                    break;
+                case ABILITY:
+                    simulation.activateAbility();
+                    break;
+                case WORLD_WIDTH:
+                    simulation.setWorldWidth(xs[cursor]);
+                    break;
+                case RESTART:
+                    simulation.restart();
+                    step = simulation.getStep();
+                    break;
+            }
+            cursor++;
+        }
+        return cursor;
+    }
+
+    /**
+     * Re-run the recording headless, as fast as the CPU allows
+     * @param maxSteps Steps to give up after if the level never ends
+     * @return The simulation in its final state; the caller disposes it
+     */
+    public GameSimulation simulate(int maxSteps) {
+        GameSimulation simulation = new GameSimulation(LevelLoader.load(level), seed);
+        int cursor = 0;
+        for (int step = 0; step < maxSteps; step++) {
+            cursor = apply(simulation, cursor);
+            if (cursor == count && simulation.getOutcome() != GameStateTracker.Outcome.IN_PROGRESS) {
+                break;
+            }
+            simulation.step();
+        }
+        return simulation;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public void write(FileHandle file) {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file.write(false)))) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeShort(level);
+            out.writeLong(seed);
+            out.writeInt(count);
+            for (int i = 0; i < count; i++) {
+                out.writeInt(steps[i]);
+                out.writeByte(types[i]);
+                out.writeFloat(xs[i]);
+                out.writeFloat(ys[i]);
+            }
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Could not write replay " + file.path(), e);
+        }
+    }
+
+    public static Replay read(FileHandle file) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(file.read()))) {
+            if (in.readInt() != MAGIC) {
+                throw new GdxRuntimeException("Not a replay file: " + file.path());
+            }
+            int version = in.readShort();
+            if (version != VERSION) {
+                throw new GdxRuntimeException("Unsupported replay version " + version + ": " + file.path());
+            }
+            Replay replay = new Replay(in.readShort(), in.readLong());
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                replay.record(in.readInt(), INPUTS[in.readByte()], in.readFloat(), in.readFloat());
+            }
+            return replay;
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Could not read replay " + file.path(), e);
+        }
+    }
+}
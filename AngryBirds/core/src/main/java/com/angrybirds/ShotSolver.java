@@ -0,0 +1,301 @@
+package com.angrybirds;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Searches for a sequence of slingshot shots that clears every pig of a level.
+ * Shots are chosen one bird at a time: a coarse grid of launch angles, pull lengths and ability
+ * timings is swept, then the angle and pull are repeatedly narrowed around the best candidate. Each candidate is played out in
+ * its own headless GameSimulation, replaying the shots already chosen first, so candidates share
+ * nothing and are spread over a ForkJoinPool. The search stops at the first shot that clears the
+ * level, so the result uses as few birds as this greedy search can find.
+ *
+ * Gdx.files must be set and Box2D initialised before solving, e.g. with the headless backend.
+ */
+public class ShotSolver {
+
+    /**
+     * One release of the slingshot, described the way a player aims
+     */
+    public static final class Shot {
+        // Launch direction in degrees above the horizontal; the pull is the opposite way
+        public final float angle;
+        // Pull distance from the slingshot centre in pixels
+        public final float pull;
+        // Physics steps after release at which the special ability is triggered, or NO_ABILITY
+        public final int abilityTick;
+
+        public Shot(float angle, float pull, int abilityTick) {
+            this.angle = angle;
+            this.pull = pull;
+            this.abilityTick = abilityTick;
+        }
+
+        public float getPullX() {
+            return -pull * (float) Math.cos(Math.toRadians(angle));
+        }
+
+        public float getPullY() {
+            return -pull * (float) Math.sin(Math.toRadians(angle));
+        }
+
+        @Override
+        public String toString() {
+            if (abilityTick == NO_ABILITY) {
+                return String.format("%.2f deg, %.2f px", angle, pull);
+            }
+            return String.format("%.2f deg, %.2f px, ability at step %d", angle, pull, abilityTick);
+        }
+    }
+
+    /**
+     * Outcome of a search
+     */
+    public static final class Solution {
+        public final List<Shot> shots;
+        public final int pigsLeft;
+        // Number of simulations that were played out
+        public final int evaluations;
+
+        Solution(List<Shot> shots, int pigsLeft, int evaluations) {
+            this.shots = Collections.unmodifiableList(shots);
+            this.pigsLeft = pigsLeft;
+            this.evaluations = evaluations;
+        }
+
+        public boolean clearsLevel() {
+            return pigsLeft == 0;
+        }
+    }
+
+    public static final int NO_ABILITY = -1;
+
+    // Search space, matching what a player can do with the slingshot's 50 px pull limit
+    private static final float MIN_ANGLE = -30f;
+    private static final float MAX_ANGLE = 80f;
+    private static final float MIN_PULL = 10f;
+    private static final float MAX_PULL = 50f;
+    // When to trigger the ability, in physics steps after release; birds without one ignore it
+    private static final int[] ABILITY_TICKS = {NO_ABILITY, 15, 30, 45, 60};
+
+    // Coarse grid size, then how often and how finely it is narrowed around the best shot
+    private static final int COARSE_ANGLE_STEPS = 23;
+    private static final int COARSE_PULL_STEPS = 5;
+    private static final int REFINEMENTS = 4;
+    private static final int REFINE_STEPS = 5;
+
+    // Safety limits so a bird that never settles cannot stall the search
+    private static final int MAX_FLIGHT_TICKS = 60 * 30;
+    // Time given to falling blocks after a bird is spent, before the next shot or the score
+    private static final int SETTLE_TICKS = 60 * 2;
+
+    private static final float DEFAULT_WORLD_WIDTH = 1920;
+
+    private final LevelData level;
+    private final ForkJoinPool pool;
+    private final AtomicInteger evaluations = new AtomicInteger();
+    private float worldWidth = DEFAULT_WORLD_WIDTH;
+
+    public ShotSolver(LevelData level) {
+        this(level, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param level Level to solve, including its bird queue; only read, never modified
+     * @param pool Pool the candidate simulations run on
+     */
+    public ShotSolver(LevelData level, ForkJoinPool pool) {
+        this.level = level;
+        this.pool = pool;
+    }
+
+    /**
+     * @param worldWidth Right edge of the level in pixels, as the game's viewport would set it
+     */
+    public void setWorldWidth(float worldWidth) {
+        this.worldWidth = worldWidth;
+    }
+
+    /**
+     * Choose shots bird by bird until the level is cleared or the queue runs out
+     * @return The chosen shots; check {@link Solution#clearsLevel()} for success
+     */
+    public Solution solve() {
+        evaluations.set(0);
+        List<Shot> chosen = new ArrayList<>();
+        int pigsLeft = level.pigs.size();
+
+        for (int bird = 0; bird < level.birds.size() && pigsLeft > 0; bird++) {
+            Candidate best = sweep(chosen, coarseGrid(bird));
+
+            float angleStep = (MAX_ANGLE - MIN_ANGLE) / (COARSE_ANGLE_STEPS - 1);
+            float pullStep = (MAX_PULL - MIN_PULL) / (COARSE_PULL_STEPS - 1);
+            for (int round = 0; round < REFINEMENTS && best.pigsLeft > 0; round++) {
+                angleStep /= 2;
+                pullStep /= 2;
+                Candidate refined = sweep(chosen, refinedGrid(best.shot, angleStep, pullStep));
+                if (refined.scoresBetterThan(best)) {
+                    best = refined;
+                }
+            }
+
+            chosen.add(best.shot);
+            pigsLeft = best.pigsLeft;
+            GameLog.info(GameLog.Category.GAME_STATE, "Solver picked a shot, {} pigs left after bird {}",
+                pigsLeft, bird + 1);
+        }
+        return new Solution(chosen, pigsLeft, evaluations.get());
+    }
+
+    private boolean hasAbility(int bird) {
+        return level.birds.get(bird).type != LevelData.BirdType.RED;
+    }
+
+    private List<Shot> coarseGrid(int bird) {
+        int[] abilityTicks = hasAbility(bird) ? ABILITY_TICKS : new int[]{NO_ABILITY};
+        List<Shot> grid = new ArrayList<>(COARSE_ANGLE_STEPS * COARSE_PULL_STEPS * abilityTicks.length);
+        for (int a = 0; a < COARSE_ANGLE_STEPS; a++) {
+            float angle = MIN_ANGLE + (MAX_ANGLE - MIN_ANGLE) * a / (COARSE_ANGLE_STEPS - 1);
+            for (int p = 0; p < COARSE_PULL_STEPS; p++) {
+                float pull = MIN_PULL + (MAX_PULL - MIN_PULL) * p / (COARSE_PULL_STEPS - 1);
+                for (int abilityTick : abilityTicks) {
+                    grid.add(new Shot(angle, pull, abilityTick));
+                }
+            }
+        }
+        return grid;
+    }
+
+    private List<Shot> refinedGrid(Shot center, float angleStep, float pullStep) {
+        List<Shot> grid = new ArrayList<>(REFINE_STEPS * REFINE_STEPS);
+        int half = REFINE_STEPS / 2;
+        for (int a = -half; a <= half; a++) {
+            float angle = clamp(center.angle + a * angleStep, MIN_ANGLE, MAX_ANGLE);
+            for (int p = -half; p <= half; p++) {
+                if (a == 0 && p == 0) {
+                    continue; // The centre has already been played
+                }
+                grid.add(new Shot(angle, clamp(center.pull + p * pullStep, MIN_PULL, MAX_PULL), center.abilityTick));
+            }
+        }
+        return grid;
+    }
+
+    private static float clamp(float value, float min, float max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    private Candidate sweep(List<Shot> prefix, List<Shot> grid) {
+        return pool.invoke(new SweepTask(prefix, grid, 0, grid.size()));
+    }
+
+    /**
+     * Splits a grid in halves down to single candidates; each one is a whole simulation, so a
+     * single candidate is already plenty of work for a task. ForkJoinTask is Serializable, but
+     * tasks never leave the pool, so there is no serial form to keep stable.
+     */
+    @SuppressWarnings("serial")
+    private final class SweepTask extends RecursiveTask<Candidate> {
+        private final List<Shot> prefix;
+        private final List<Shot> grid;
+        private final int from;
+        private final int to;
+
+        SweepTask(List<Shot> prefix, List<Shot> grid, int from, int to) {
+            this.prefix = prefix;
+            this.grid = grid;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Candidate compute() {
+            if (to - from == 1) {
+                return evaluate(prefix, grid.get(from), from);
+            }
+            int middle = (from + to) >>> 1;
+            SweepTask left = new SweepTask(prefix, grid, from, middle);
+            left.fork();
+            Candidate right = new SweepTask(prefix, grid, middle, to).compute();
+            Candidate best = left.join();
+            return right.isBetterThan(best) ? right : best;
+        }
+    }
+
+    /**
+     * Play the chosen shots and then the candidate in a fresh world
+     */
+    private Candidate evaluate(List<Shot> prefix, Shot shot, int order) {
+        evaluations.incrementAndGet();
+        GameSimulation simulation = new GameSimulation(level);
+        try {
+            simulation.setWorldWidth(worldWidth);
+            for (int i = 0; i < prefix.size(); i++) {
+                play(simulation, prefix.get(i));
+            }
+            play(simulation, shot);
+
+            EntityRegistry<Pig> pigs = simulation.getPigs();
+            float health = 0;
+            for (int i = 0; i < pigs.size(); i++) {
+                health += pigs.get(i).getHealth();
+            }
+            return new Candidate(shot, pigs.size(), health, order);
+        } finally {
+            simulation.dispose();
+        }
+    }
+
+    private static void play(GameSimulation simulation, Shot shot) {
+        Bird bird = simulation.getCurrentBird();
+        if (bird == null || bird.getState() != BirdState.LOADED) {
+            return;
+        }
+        simulation.beginDrag();
+        simulation.release(shot.getPullX(), shot.getPullY());
+
+        for (int tick = 0; tick < MAX_FLIGHT_TICKS && simulation.getCurrentBird() == bird; tick++) {
+            if (tick == shot.abilityTick) {
+                simulation.activateAbility();
+            }
+            simulation.step();
+        }
+        for (int tick = 0; tick < SETTLE_TICKS && !simulation.getPigs().isEmpty(); tick++) {
+            simulation.step();
+        }
+    }
+
+    private static final class Candidate {
+        private final Shot shot;
+        private final int pigsLeft;
+        private final float pigHealthLeft;
+        // Grid position, so ties resolve the same way on any number of threads
+        private final int order;
+
+        Candidate(Shot shot, int pigsLeft, float pigHealthLeft, int order) {
+            this.shot = shot;
+            this.pigsLeft = pigsLeft;
+            this.pigHealthLeft = pigHealthLeft;
+            this.order = order;
+        }
+
+        boolean isBetterThan(Candidate other) {
+            if (pigsLeft != other.pigsLeft || pigHealthLeft != other.pigHealthLeft) {
+                return scoresBetterThan(other);
+            }
+            return order < other.order;
+        }
+
+        boolean scoresBetterThan(Candidate other) {
+            if (pigsLeft != other.pigsLeft) {
+                return pigsLeft < other.pigsLeft;
+            }
+            return pigHealthLeft < other.pigHealthLeft;
+        }
+    }
+}
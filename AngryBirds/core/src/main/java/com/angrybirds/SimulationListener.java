@@ -0,0 +1,37 @@
+package com.angrybirds;
+
+/**
+ * Observer of a GameSimulation. Rendering, audio and UI attach through this so the simulation
+ * itself never touches GL or sound. All callbacks run on the thread that steps the simulation,
+ * outside of Box2D's world.step.
+ */
+public interface SimulationListener {
+
+    /**
+     * A bird moved to a new lifecycle state; {@link Bird#getState()} is the new one
+     */
+    default void onBirdStateChanged(Bird bird, BirdState previous) {}
+
+    default void onBirdLaunched(Bird bird) {}
+
+    default void onAbilityActivated(Bird bird) {}
+
+    /**
+     * A launched bird left the level or came to rest and has been retired
+     */
+    default void onBirdSpent(Bird bird) {}
+
+    default void onPigDestroyed(Pig pig) {}
+
+    default void onStructureDestroyed(Structure structure) {}
+
+    /**
+     * Every body came to rest and no bird is in play; nothing changes until the next drag or
+     * restart
+     */
+    default void onWorldSettled() {}
+
+    default void onLevelWon() {}
+
+    default void onLevelLost() {}
+}
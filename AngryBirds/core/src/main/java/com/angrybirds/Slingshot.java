@@ -218,160 +218,133 @@
 
 package com.angrybirds;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.audio.Sound;
-import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.InputAdapter;
 import com.badlogic.gdx.physics.box2d.*;
-import java.util.Queue;
-import java.util.LinkedList;
 
 public class Slingshot {
     // Slingshot properties
-    private Texture texture;
+    private TextureRegion texture;
+    private String texturePath;
     private Vector2 position;
     private float scale;
     private float width;
     private float height;
 
-    // Bird management
-    private Queue<Bird> birdQueue;
-    private Bird currentBird;
-    private Bird draggedBird;
+    // Bird management lives in the simulation; the slingshot only turns touches into pulls
+    private final GameSimulation simulation;
     private int currentBirdIndex = 0;
 
-    // Slingshot constraints and physics
+    // Slingshot constraints
     private final float SLINGSHOT_PULL_LIMIT = 50f;
-    private final Vector2 BIRD_READY_POSITION = new Vector2(325, 585);
-    private final float LAUNCH_POWER_MULTIPLIER = 0.25f;
-    private final float MAX_LAUNCH_SPEED = 14f;
 
     // Rendering and camera
     private OrthographicCamera camera;
-    private ShapeRenderer shapeRenderer;
 
-    // Dragging state
-    private Vector2 dragStart;
-    private Vector2 dragCurrent;
-    private boolean isDragging = false;
+    // Aiming aid: the predicted arc is drawn as dots with the main batch, so no batch flush
+    private static final int TRAJECTORY_DOTS = 30;
+    private static final int STEPS_PER_DOT = 3;
+    private static final float DOT_SIZE = 8f;
+    private static final float BAND_THICKNESS = 2f;
+    private final TrajectoryPredictor trajectory = new TrajectoryPredictor(TRAJECTORY_DOTS, STEPS_PER_DOT);
+    private final Vector2 launchVelocity = new Vector2();
+    private Texture dotTexture;
+    private TextureRegion dotRegion;
+    private TextureRegion bandRegion;
 
-    // Sound-related variables
-    private Sound slingshotDragSound;
-    private long soundId = -1; // To track the looping sound
+    // Touch handling and dragging state
+    private final SlingshotInput input;
 
     /**
      * Constructor for Slingshot
-     * @param world The Box2D physics world
+     * @param simulation Simulation owning the bird queue
      * @param texturePath Path to slingshot texture
      * @param soundPath Path to slingshot drag sound
      * @param x X-coordinate of slingshot
      * @param y Y-coordinate of slingshot
      * @param scale Scale of slingshot
-     * @param birds Queue of birds to be launched
      * @param camera Game's orthographic camera
      */
 
-    public Slingshot(World world, String texturePath, String soundPath, float x, float y, float scale, Queue<Bird> birds, OrthographicCamera camera) {
+    public Slingshot(GameSimulation simulation, String texturePath, String soundPath, float x, float y, float scale, OrthographicCamera camera) {
         // Initialize basic properties
-        this.birdQueue = new LinkedList<>(birds);
+        this.simulation = simulation;
         this.camera = camera;
 
-        // Load slingshot texture
-        this.texture = new Texture(Gdx.files.internal(texturePath));
+        // Slingshot sprite, shared with the entity atlas
+        this.texturePath = texturePath;
+        this.texture = TextureCache.obtain(texturePath);
 
         // Set position and scaling
         this.position = new Vector2(x, y);
         this.scale = scale;
-        this.width = texture.getWidth() * scale;
-        this.height = texture.getHeight() * scale;
-
-        // Initialize shape renderer
-        this.shapeRenderer = new ShapeRenderer();
-
-        // Load the slingshot drag sound
-        this.slingshotDragSound = Gdx.audio.newSound(Gdx.files.internal(soundPath));
-
-        // Set up the first bird
-        loadNextBird();
+        this.width = texture.getRegionWidth() * scale;
+        this.height = texture.getRegionHeight() * scale;
+
+        // A white disc for the arc dots; its centre pixel stretched makes the band
+        Pixmap dot = new Pixmap(16, 16, Pixmap.Format.RGBA8888);
+        dot.setColor(1f, 1f, 1f, 1f);
+        dot.fillCircle(8, 8, 7);
+        this.dotTexture = new Texture(dot);
+        dot.dispose();
+        this.dotRegion = new TextureRegion(dotTexture);
+        this.bandRegion = new TextureRegion(dotTexture, 8, 8, 1, 1);
+
+        // Touches are handled without allocating; the drag sound plays while aiming
+        this.input = new SlingshotInput(simulation, camera, x, y, width, height, SLINGSHOT_PULL_LIMIT);
+        this.input.setDragSound(Assets.sound(soundPath));
     }
 
     /**
-     * Load the next bird from the queue
-     */
-    private void loadNextBird() {
-        if (!birdQueue.isEmpty()) {
-            currentBird = birdQueue.poll();
-            currentBird.setPosition(BIRD_READY_POSITION.x, BIRD_READY_POSITION.y);
-            currentBird.setBodyType(BodyDef.BodyType.StaticBody);
-        } else {
-            currentBird = null;
-        }
-    }
-
-    /**
-     * Draw the slingshot and drag line
-     * @param batch SpriteBatch for rendering
+     * Draw the slingshot, and while aiming the band and the predicted flight arc
+     * @param batch SpriteBatch for rendering, already begun
      * @param xOffset X-axis offset
      * @param yOffset Y-axis offset
      */
     public void draw(SpriteBatch batch, float xOffset, float yOffset) {
-        // End SpriteBatch to draw shapes
-        batch.end();
-
-        // Draw the drag line if dragging
-        if (isDragging && dragStart != null && dragCurrent != null) {
-            shapeRenderer.setProjectionMatrix(camera.combined);
-            shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
-
-            // Draw the trajectory line
-            shapeRenderer.setColor(Color.WHITE);
-            shapeRenderer.line(dragStart.x, dragStart.y, dragCurrent.x, dragCurrent.y);
-
-            // Draw power indicator (perpendicular lines, longer = more power)
-            Vector2 dragVector = new Vector2(dragCurrent.x - dragStart.x, dragCurrent.y - dragStart.y);
-            float power = dragVector.len() / SLINGSHOT_PULL_LIMIT;
-            Vector2 perpendicular = new Vector2(-dragVector.y, dragVector.x).nor();
-            float lineLength = 20 * power;
-
-            Vector2 midPoint = new Vector2(
-                (dragStart.x + dragCurrent.x) / 2,
-                (dragStart.y + dragCurrent.y) / 2
-            );
-
-            shapeRenderer.line(
-                midPoint.x - perpendicular.x * lineLength,
-                midPoint.y - perpendicular.y * lineLength,
-                midPoint.x + perpendicular.x * lineLength,
-                midPoint.y + perpendicular.y * lineLength
-            );
+        // Draw the slingshot
+        batch.draw(texture, position.x + xOffset, position.y + yOffset, width, height);
 
-            shapeRenderer.end();
+        if (input.isDragging()) {
+            drawBand(batch);
+            drawTrajectory(batch);
         }
+    }
 
-        // Resume SpriteBatch for texture drawing
-        batch.begin();
-
-        // Draw the slingshot
-        batch.draw(texture, position.x + xOffset, position.y + yOffset, width, height);
+    private void drawBand(SpriteBatch batch) {
+        Vector2 dragStart = input.getDragStart();
+        Vector2 dragCurrent = input.getDragCurrent();
+        float pullX = dragCurrent.x - dragStart.x;
+        float pullY = dragCurrent.y - dragStart.y;
+        float length = (float) Math.sqrt(pullX * pullX + pullY * pullY);
+        float angle = MathUtils.atan2(pullY, pullX) * MathUtils.radiansToDegrees;
+        batch.draw(bandRegion, dragStart.x, dragStart.y - BAND_THICKNESS / 2,
+            0, BAND_THICKNESS / 2, length, BAND_THICKNESS, 1, 1, angle);
     }
 
-    /**
-     * Update slingshot state
-     */
-    public void update() {
-        // Check if we need to load the next bird
-        if (currentBird == null ||
-            (currentBird.getBody().getType() == BodyDef.BodyType.DynamicBody &&
-                !isDragging)) {
-            loadNextBird();
+    private void drawTrajectory(SpriteBatch batch) {
+        Vector2 dragStart = input.getDragStart();
+        Vector2 dragCurrent = input.getDragCurrent();
+        GameSimulation.launchVelocity(dragCurrent.x - dragStart.x, dragCurrent.y - dragStart.y, launchVelocity);
+        int dots = trajectory.predict(simulation.getWorld(), dragCurrent.x, dragCurrent.y,
+            launchVelocity.x, launchVelocity.y, input.getDraggedBird().getBody().getLinearDamping());
+
+        float previousColor = batch.getPackedColor();
+        for (int i = 0; i < dots; i++) {
+            // Dots shrink and fade along the arc
+            float t = 1f - (float) i / TRAJECTORY_DOTS;
+            float size = DOT_SIZE * (0.4f + 0.6f * t);
+            batch.setColor(1f, 1f, 1f, 0.3f + 0.6f * t);
+            batch.draw(dotRegion, trajectory.getX(i) - size / 2, trajectory.getY(i) - size / 2, size, size);
         }
+        batch.setPackedColor(previousColor);
     }
 
     /**
@@ -383,116 +356,35 @@ public class Slingshot {
     }
 
     /**
-     * Create input processor for slingshot interactions
+     * Input processor for slingshot interactions
      * @return InputAdapter for handling touch events
      */
     public InputAdapter getInputProcessor() {
-        return new InputAdapter() {
-            @Override
-            public boolean touchDown(int screenX, int screenY, int pointer, int button) {
-                Vector3 worldCoords = camera.unproject(new Vector3(screenX, screenY, 0));
-                Vector2 touchPoint = new Vector2(worldCoords.x, worldCoords.y);
-
-                // Define a dragging area around the slingshot
-                Rectangle dragArea = new Rectangle(
-                    position.x - width,
-                    position.y - height,
-                    width * 2,
-                    height * 2
-                );
-
-                // Only allow interaction with the current bird if it's within the slingshot's drag area
-                if (currentBird != null &&
-                    dragArea.contains(touchPoint.x, touchPoint.y) &&
-                    currentBird.getBoundingBox().contains(touchPoint.x, touchPoint.y)) {
-                    draggedBird = currentBird;
-                    draggedBird.setBodyType(BodyDef.BodyType.KinematicBody);
-                    dragStart = new Vector2(position.x + width/2, position.y + height/2);
-                    dragCurrent = touchPoint;
-                    isDragging = true;
-
-                    // Play the slingshot drag sound (looping)
-                    slingshotDragSound.play(0.5f); // Adjust volume as needed
-
-                    return true;
-                }
-                return false;
-            }
-
-            @Override
-            public boolean touchDragged(int screenX, int screenY, int pointer) {
-                if (isDragging && draggedBird != null) {
-                    Vector3 worldCoords = camera.unproject(new Vector3(screenX, screenY, 0));
-                    dragCurrent = new Vector2(worldCoords.x, worldCoords.y);
-
-                    // Calculate pull vector from slingshot center
-                    Vector2 pullVector = dragCurrent.cpy().sub(dragStart);
-
-                    // Limit pull distance
-                    if (pullVector.len() > SLINGSHOT_PULL_LIMIT) {
-                        pullVector.setLength(SLINGSHOT_PULL_LIMIT);
-                        dragCurrent = dragStart.cpy().add(pullVector);
-                    }
-
-                    // Update bird position
-                    draggedBird.setPosition(dragCurrent.x, dragCurrent.y);
-                    return true;
-                }
-                return false;
-            }
-
-            @Override
-            public boolean touchUp(int screenX, int screenY, int pointer, int button) {
-                if (isDragging && draggedBird != null) {
-                    // Stop the slingshot drag sound
-                    if (soundId != -1) {
-                        slingshotDragSound.stop(soundId);
-                        soundId = -1;
-                    }
-
-                    // Calculate launch vector (from current position to slingshot center)
-                    Vector2 launchVector = dragStart.cpy().sub(dragCurrent);
-
-                    // Apply power multiplier and clamp to max speed
-                    launchVector.scl(LAUNCH_POWER_MULTIPLIER);
-                    if (launchVector.len() > MAX_LAUNCH_SPEED) {
-                        launchVector.setLength(MAX_LAUNCH_SPEED);
-                    }
-
-                    // Launch the bird
-                    draggedBird.setBodyType(BodyDef.BodyType.DynamicBody);
-                    draggedBird.setVelocity(launchVector.x, launchVector.y);
-
-                    // Reset drag state
-                    draggedBird = null;
-                    isDragging = false;
-                    dragStart = null;
-                    dragCurrent = null;
-
-                    return true;
-                }
-                return false;
-            }
-        };
+        return input;
     }
 
     /**
      * Clean up resources
      */
     public void dispose() {
-        texture.dispose();
-        shapeRenderer.dispose();
-        slingshotDragSound.dispose();
+        // The sound is owned by Assets
+        TextureCache.release(texturePath);
+        dotTexture.dispose();
+    }
+
+    /**
+     * Drop any drag in progress without launching, e.g. when the level restarts
+     */
+    public void cancelDrag() {
+        input.cancel();
     }
+
     public Bird getDraggedBird() {
-        if (isDragging) {
-            return draggedBird; // Return the bird that's being dragged
-        }
-        return null; // Return null if no bird is being dragged
+        return input.getDraggedBird();
     }
 
     public boolean isDragging() {
-        return isDragging;
+        return input.isDragging();
     }
 
     /**
@@ -500,7 +392,7 @@ public class Slingshot {
      * @return true if more birds are available
      */
     public boolean hasMoreBirds() {
-        return !birdQueue.isEmpty() || currentBird != null;
+        return simulation.getQueuedBirdCount() > 0 || simulation.getCurrentBird() != null;
     }
 
     /**
@@ -508,13 +400,13 @@ public class Slingshot {
      * @return Current bird
      */
     public Bird getCurrentBird() {
-        return currentBird;
+        return simulation.getCurrentBird();
     }
 
     public boolean isBirdLaunched() {
+        Bird currentBird = simulation.getCurrentBird();
         return currentBird != null &&
-            currentBird.getBody().getType() == BodyDef.BodyType.DynamicBody &&
-            !isDragging;
+            currentBird.getState().isLaunched();
     }
 
     /**
@@ -530,7 +422,7 @@ public class Slingshot {
      * @param index New bird index
      */
     public void setCurrentBirdIndex(int index) {
-        if (index >= 0 && index < birdQueue.size()) {
+        if (index >= 0 && index < simulation.getQueuedBirdCount()) {
             currentBirdIndex = index;
         }
     }
@@ -0,0 +1,176 @@
+package com.angrybirds;
+
+import com.badlogic.gdx.InputAdapter;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.math.Vector3;
+
+/**
+ * Turns touches on the slingshot into drags and releases of the simulation's loaded bird.
+ * Pointer events can arrive hundreds of times a second while aiming, so every vector and
+ * rectangle used along the way is owned by this class and reused: handling an event allocates
+ * nothing. The input needs no textures, so it runs headless against a bare GameSimulation.
+ */
+public class SlingshotInput extends InputAdapter {
+
+    private final GameSimulation simulation;
+    private final Camera camera;
+    private final float pullLimit;
+
+    // Area around the slingshot in which the bird can be picked up, in world pixels
+    private final Rectangle dragArea = new Rectangle();
+    private final Rectangle birdBounds = new Rectangle();
+    private final Vector3 touchPoint = new Vector3();
+
+    // Dragging state; the vectors are only meaningful while dragging
+    private final Vector2 dragStart = new Vector2();
+    private final Vector2 dragCurrent = new Vector2();
+    private Bird draggedBird;
+    private boolean isDragging = false;
+
+    private Sound dragSound;
+    private long soundId = -1;
+
+    /**
+     * @param simulation Simulation owning the bird queue
+     * @param camera Camera touches are unprojected with
+     * @param x X-coordinate of the slingshot
+     * @param y Y-coordinate of the slingshot
+     * @param width Width of the slingshot
+     * @param height Height of the slingshot
+     * @param pullLimit Furthest the bird can be pulled from the slingshot centre, in pixels
+     */
+    public SlingshotInput(GameSimulation simulation, Camera camera, float x, float y,
+                          float width, float height, float pullLimit) {
+        this.simulation = simulation;
+        this.camera = camera;
+        this.pullLimit = pullLimit;
+        dragArea.set(x - width, y - height, width * 2, height * 2);
+        dragStart.set(x + width / 2, y + height / 2);
+    }
+
+    /**
+     * @param dragSound Sound played while the band is pulled, or null for silence
+     */
+    public void setDragSound(Sound dragSound) {
+        this.dragSound = dragSound;
+    }
+
+    @Override
+    public boolean touchDown(int screenX, int screenY, int pointer, int button) {
+        camera.unproject(touchPoint.set(screenX, screenY, 0));
+        return press(touchPoint.x, touchPoint.y);
+    }
+
+    @Override
+    public boolean touchDragged(int screenX, int screenY, int pointer) {
+        if (!isDragging) {
+            return false;
+        }
+        camera.unproject(touchPoint.set(screenX, screenY, 0));
+        return drag(touchPoint.x, touchPoint.y);
+    }
+
+    @Override
+    public boolean touchUp(int screenX, int screenY, int pointer, int button) {
+        return release();
+    }
+
+    /**
+     * Pick up the loaded bird if it is under the point
+     * @param x X-coordinate in world pixels
+     * @param y Y-coordinate in world pixels
+     * @return true if a drag started
+     */
+    public boolean press(float x, float y) {
+        // Only allow interaction with the current bird if it's within the slingshot's drag area
+        Bird currentBird = simulation.getCurrentBird();
+        if (currentBird == null ||
+            !dragArea.contains(x, y) ||
+            !currentBird.getBoundingBox(birdBounds).contains(x, y) ||
+            !simulation.beginDrag()) {
+            return false;
+        }
+        draggedBird = currentBird;
+        dragCurrent.set(x, y);
+        isDragging = true;
+
+        if (dragSound != null) {
+            soundId = dragSound.play(0.5f);
+        }
+        return true;
+    }
+
+    /**
+     * Move the dragged bird, keeping it within the pull limit
+     * @param x X-coordinate in world pixels
+     * @param y Y-coordinate in world pixels
+     * @return true if a drag is in progress
+     */
+    public boolean drag(float x, float y) {
+        if (!isDragging) {
+            return false;
+        }
+        float pullX = x - dragStart.x;
+        float pullY = y - dragStart.y;
+        float length2 = pullX * pullX + pullY * pullY;
+        if (length2 > pullLimit * pullLimit) {
+            float scale = pullLimit / (float) Math.sqrt(length2);
+            pullX *= scale;
+            pullY *= scale;
+        }
+        dragCurrent.set(dragStart.x + pullX, dragStart.y + pullY);
+        simulation.dragBirdTo(dragCurrent.x, dragCurrent.y);
+        return true;
+    }
+
+    /**
+     * Launch the dragged bird opposite to the pull; speed scaling and clamping happen in the
+     * simulation
+     * @return true if a bird was released
+     */
+    public boolean release() {
+        if (!isDragging) {
+            return false;
+        }
+        simulation.release(dragCurrent.x - dragStart.x, dragCurrent.y - dragStart.y);
+        cancel();
+        return true;
+    }
+
+    /**
+     * Drop any drag in progress without launching
+     */
+    public void cancel() {
+        if (soundId != -1) {
+            dragSound.stop(soundId);
+            soundId = -1;
+        }
+        draggedBird = null;
+        isDragging = false;
+    }
+
+    public boolean isDragging() {
+        return isDragging;
+    }
+
+    public Bird getDraggedBird() {
+        return isDragging ? draggedBird : null;
+    }
+
+    /**
+     * @return Slingshot centre the bird is pulled from; do not modify
+     */
+    public Vector2 getDragStart() {
+        return dragStart;
+    }
+
+    /**
+     * @return Where the bird is held, within the pull limit; do not modify
+     */
+    public Vector2 getDragCurrent() {
+        return dragCurrent;
+    }
+}
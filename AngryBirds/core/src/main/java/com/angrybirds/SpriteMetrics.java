@@ -0,0 +1,90 @@
+package com.angrybirds;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pixel size of a sprite without uploading it to the GPU.
+ * Entities size their Box2D bodies from this, so the simulation can be built with no GL
+ * context. The packed atlas is used when it is loaded; otherwise the size is read from the
+ * PNG header of the loose file.
+ */
+public final class SpriteMetrics {
+
+    private static final long PNG_SIGNATURE = 0x89504E470D0A1A0AL;
+
+    // Width and height per path, read at most once; headless tools build worlds on several threads
+    private static final Map<String, int[]> sizes = new ConcurrentHashMap<>();
+
+    private SpriteMetrics() {}
+
+    public static int getWidth(String path) {
+        return size(path)[0];
+    }
+
+    public static int getHeight(String path) {
+        return size(path)[1];
+    }
+
+    private static int[] size(String path) {
+        return sizes.computeIfAbsent(path, SpriteMetrics::measure);
+    }
+
+    private static int[] measure(String path) {
+        TextureRegion packed = TextureCache.findPackedRegion(path);
+        if (packed instanceof TextureAtlas.AtlasRegion region) {
+            return new int[]{region.originalWidth, region.originalHeight};
+        }
+        if (packed != null) {
+            return new int[]{packed.getRegionWidth(), packed.getRegionHeight()};
+        }
+
+        FileHandle file = resolve(path);
+        try (DataInputStream in = new DataInputStream(file.read())) {
+            // Signature, then the IHDR chunk: length, type, width, height
+            if (in.readLong() != PNG_SIGNATURE) {
+                throw new GdxRuntimeException("Not a PNG file: " + path);
+            }
+            in.readInt();
+            in.readInt();
+            return new int[]{in.readInt(), in.readInt()};
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Could not read sprite size: " + path, e);
+        }
+    }
+
+    private static FileHandle resolve(String path) {
+        FileHandle file = Gdx.files.internal(path);
+        if (file.exists()) {
+            return file;
+        }
+        // Level code is not consistent about file name case; the atlas hides that, loose files do not
+        String name = file.name();
+        FileHandle folder = file.parent();
+        if (folder.path().isEmpty()) {
+            // The asset root has an empty path, which some backends cannot list
+            folder = Gdx.files.internal(".");
+        }
+        for (FileHandle sibling : folder.list()) {
+            if (sibling.name().equalsIgnoreCase(name)) {
+                return sibling;
+            }
+        }
+        return file;
+    }
+
+    /**
+     * Forget cached sizes, e.g. after the atlas has been reloaded
+     */
+    public static void clear() {
+        sizes.clear();
+    }
+}
@@ -1,15 +1,22 @@
 package com.angrybirds;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
 
 
-public class Structure implements GameObject {
-    private Texture texture;
-    private Texture damagedtexture;
+public class Structure implements GameObject, Damageable, EntityRegistry.Member {
+    // Both sprites are bound on first draw, so the block can be simulated without a GL context
+    private TextureRegion region;
+    private boolean showDamaged = false;
+    private TextureRegion damagedRegion;
+    private String texturePath;
+    private String damagedPath;
+    // Half-block sprite of the fragments, or null if the block just disappears
+    private String debrisPath;
+    private boolean disposed = false;
     private Vector2 position;
     private float width;
     private float height;
@@ -27,17 +34,29 @@ public class Structure implements GameObject {
     private static final float MEDIUM_IMPACT_MULTIPLIER = 0.5f;
     private static final float STRONG_IMPACT_MULTIPLIER = 1.0f;
     private boolean isdestroyed=false;
+    private int damageSlot = -1;
+    private int registryHandle = EntityRegistry.INVALID_HANDLE;
+
+    // Body transform before the latest physics step, for interpolated drawing
+    private final Vector2 previousPosition = new Vector2();
+    private float previousAngle;
 
     public Structure(World world, String texturePath,String damagedpath, float x, float y, float scale) {
         this(world, texturePath,damagedpath, x, y, scale, DEFAULT_MAX_HEALTH);
     }
 
     public Structure(World world, String texturePath,String damagedpath, float x, float y, float scale, float maxHealth) {
-        this.texture = new Texture(Gdx.files.internal(texturePath));
-        this.damagedtexture = new Texture(Gdx.files.internal(damagedpath));
+        this(world, texturePath, damagedpath, null, x, y, scale, maxHealth);
+    }
+
+    public Structure(World world, String texturePath, String damagedpath, String debrisPath,
+                     float x, float y, float scale, float maxHealth) {
+        this.texturePath = texturePath;
+        this.debrisPath = debrisPath;
+        this.damagedPath = damagedpath;
         this.position = new Vector2(x, y);
-        this.width = texture.getWidth() * scale;
-        this.height = texture.getHeight() * scale;
+        this.width = SpriteMetrics.getWidth(texturePath) * scale;
+        this.height = SpriteMetrics.getHeight(texturePath) * scale;
         this.maxHealth = maxHealth;
         this.health = maxHealth;
 
@@ -51,6 +70,13 @@ public class Structure implements GameObject {
         );
 
         body.setUserData(this);
+        captureTransform();
+    }
+
+    @Override
+    public void captureTransform() {
+        previousPosition.set(body.getPosition());
+        previousAngle = body.getAngle();
     }
 
     public void takeDamage(float damageAmount) {
@@ -65,6 +91,7 @@ public class Structure implements GameObject {
         return health <= 0;
     }
 
+    @Override
     public float getHealth() {
         return health;
     }
@@ -73,6 +100,18 @@ public class Structure implements GameObject {
         return maxHealth;
     }
 
+    public float getWidth() {
+        return width;
+    }
+
+    public float getHeight() {
+        return height;
+    }
+
+    public String getDebrisPath() {
+        return debrisPath;
+    }
+
     public float getHealthPercentage() {
         return (health / maxHealth) * 100f;
     }
@@ -118,30 +157,39 @@ public class Structure implements GameObject {
     }
 
     public void draw(Batch batch) {
+        draw(batch, 1f);
+    }
+
+    @Override
+    public void draw(Batch batch, float alpha) {
+        if (region == null) {
+            region = TextureCache.obtain(texturePath);
+            damagedRegion = TextureCache.obtain(damagedPath);
+        }
+        Vector2 current = body.getPosition();
+        float x = MathUtils.lerp(previousPosition.x, current.x, alpha) * PPM - width / 2;
+        float y = MathUtils.lerp(previousPosition.y, current.y, alpha) * PPM - height / 2;
+        float angle = MathUtils.lerp(previousAngle, body.getAngle(), alpha);
+
         batch.draw(
-            texture,
-            position.x,
-            position.y,
+            showDamaged ? damagedRegion : region,
+            x,
+            y,
             width / 2,
             height / 2,
             width,
             height,
             1f,
             1f,
-            (float) Math.toDegrees(body.getAngle()),
-            0,
-            0,
-            texture.getWidth(),
-            texture.getHeight(),
-            false,
-            false
+            angle * MathUtils.radiansToDegrees
         );
     }
 
+    @Override
     public void applyDamage(float damage) {
         health -= damage;
         if(health<0.6f*maxHealth && health>0){
-            texture=damagedtexture;
+            showDamaged = true;
         }
         else if(health <= 0) {
             isdestroyed = true;
@@ -152,11 +200,52 @@ public class Structure implements GameObject {
         return isdestroyed;
     }
 
+    @Override
+    public int getDamageSlot() {
+        return damageSlot;
+    }
+
+    @Override
+    public void setDamageSlot(int slot) {
+        this.damageSlot = slot;
+    }
+
+    @Override
+    public int getRegistryHandle() {
+        return registryHandle;
+    }
+
+    @Override
+    public void setRegistryHandle(int handle) {
+        this.registryHandle = handle;
+    }
+
+    /**
+     * Bring a destroyed block back for a level restart
+     * @param health Health to restart with
+     */
+    void reset(float health) {
+        this.health = health;
+        showDamaged = health > 0 && health < 0.6f * maxHealth;
+        isdestroyed = false;
+        disposed = false;
+    }
+
     public Body getBody() {
         return body;
     }
 
     public void dispose() {
-        texture.dispose();
+        if (disposed) {
+            return;
+        }
+        // Both textures are shared with other blocks, so only drop this block's references
+        if (region != null) {
+            TextureCache.release(texturePath);
+            TextureCache.release(damagedPath);
+            region = null;
+            damagedRegion = null;
+        }
+        disposed = true;
     }
 }
@@ -0,0 +1,143 @@
+package com.angrybirds;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Shared registry of entity sprites.
+ * Sprites are looked up in the packed game atlas first (see the packTextures Gradle task),
+ * so birds, pigs and blocks all draw from the same GPU texture. Sprites missing from the
+ * atlas are uploaded once per path and shared by everything that uses them.
+ * Callers borrow a region with {@link #obtain(String)} and give it back with
+ * {@link #release(String)}; a texture the cache loaded itself is disposed when the last
+ * borrower releases it. Anything coming from {@link Assets} stays owned by the AssetManager.
+ */
+public final class TextureCache {
+
+    private static final Map<String, Entry> entries = new HashMap<>();
+
+    // Atlas regions keyed by lower-case sprite name, built the first time the atlas is needed.
+    // SpriteMetrics reads them from solver threads, so the map is built under a lock and published whole
+    private static volatile Map<String, TextureRegion> atlasRegions;
+
+    private TextureCache() {}
+
+    /**
+     * Borrow the sprite for the given internal path, loading it on first use
+     * @param path Internal asset path of the loose PNG
+     * @return Shared region, owned by the cache or the AssetManager
+     */
+    public static TextureRegion obtain(String path) {
+        Entry entry = entries.get(path);
+        if (entry == null) {
+            entry = createEntry(path);
+            entries.put(path, entry);
+        }
+        entry.references++;
+        return entry.region;
+    }
+
+    /**
+     * Return a sprite previously borrowed with {@link #obtain(String)}
+     * @param path Internal asset path
+     */
+    public static void release(String path) {
+        Entry entry = entries.get(path);
+        if (entry == null) {
+            return;
+        }
+        entry.references--;
+        if (entry.references <= 0) {
+            if (entry.ownedTexture != null) {
+                entry.ownedTexture.dispose();
+            }
+            entries.remove(path);
+        }
+    }
+
+    /**
+     * @param path Internal asset path
+     * @return Number of live borrowers of the sprite, 0 if it is not loaded
+     */
+    public static int getReferenceCount(String path) {
+        Entry entry = entries.get(path);
+        return entry == null ? 0 : entry.references;
+    }
+
+    /**
+     * Dispose every texture the cache loaded itself, regardless of outstanding references
+     */
+    public static void clear() {
+        for (Entry entry : entries.values()) {
+            if (entry.ownedTexture != null) {
+                entry.ownedTexture.dispose();
+            }
+        }
+        entries.clear();
+        atlasRegions = null;
+    }
+
+    private static Entry createEntry(String path) {
+        TextureRegion packed = findPackedRegion(path);
+        if (packed != null) {
+            return new Entry(packed, null);
+        }
+        if (Assets.isLoaded(path)) {
+            return new Entry(new TextureRegion(Assets.texture(path)), null);
+        }
+        Texture texture = new Texture(Gdx.files.internal(path));
+        return new Entry(new TextureRegion(texture), texture);
+    }
+
+    /**
+     * Look a sprite up in the packed atlas without borrowing it
+     * @param path Internal asset path of the loose PNG
+     * @return The packed region, or null if the atlas is not loaded or does not contain it
+     */
+    static TextureRegion findPackedRegion(String path) {
+        Map<String, TextureRegion> regions = atlasRegions;
+        if (regions == null) {
+            regions = loadAtlasRegions();
+            if (regions == null) {
+                return null;
+            }
+        }
+        return regions.get(spriteName(path));
+    }
+
+    private static synchronized Map<String, TextureRegion> loadAtlasRegions() {
+        if (atlasRegions == null && Assets.isLoaded(Assets.GAME_ATLAS)) {
+            // Level code is not consistent about file name case, so match regions case-insensitively
+            Map<String, TextureRegion> regions = new HashMap<>();
+            for (TextureAtlas.AtlasRegion region : Assets.atlas(Assets.GAME_ATLAS).getRegions()) {
+                regions.put(region.name.toLowerCase(Locale.ROOT), region);
+            }
+            atlasRegions = regions;
+        }
+        return atlasRegions;
+    }
+
+    private static String spriteName(String path) {
+        int extension = path.lastIndexOf('.');
+        String name = extension < 0 ? path : path.substring(0, extension);
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Entry {
+        private final TextureRegion region;
+        // Only set when the cache loaded the texture itself and is responsible for disposing it
+        private final Texture ownedTexture;
+        private int references;
+
+        private Entry(TextureRegion region, Texture ownedTexture) {
+            this.region = region;
+            this.ownedTexture = ownedTexture;
+        }
+    }
+}
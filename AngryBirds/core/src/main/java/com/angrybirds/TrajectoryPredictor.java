@@ -0,0 +1,149 @@
+package com.angrybirds;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.RayCastCallback;
+import com.badlogic.gdx.physics.box2d.World;
+
+/**
+ * Predicts where a launched bird will fly by repeating Box2D's own integration step: gravity is
+ * added to the velocity, linear damping is applied, then the position moves by the new velocity.
+ * Until the bird hits something the predicted points match the simulation step for step. Short
+ * raycasts between consecutive points find the first block, pig or ground the arc would hit.
+ * Points are written into a preallocated array, so predicting every frame allocates nothing.
+ */
+public class TrajectoryPredictor implements RayCastCallback {
+
+    private static final float PPM = GameSimulation.PPM;
+    private static final float TIME_STEP = GameSimulation.TIME_STEP;
+    // Categories the arc stops at
+    private static final short OBSTACLE_BITS =
+        (short) (BodyCategory.GROUND.bits | BodyCategory.STRUCTURE.bits | BodyCategory.PIG.bits);
+
+    // Predicted positions in pixels, x and y interleaved
+    private final float[] points;
+    private final int maxPoints;
+    // Physics steps between two stored points
+    private final int stepsPerPoint;
+    private int pointCount;
+
+    private boolean raycastEnabled = true;
+    private final Vector2 rayStart = new Vector2();
+    private final Vector2 rayEnd = new Vector2();
+    private boolean hit;
+    private float hitFraction;
+    private final Vector2 hitPoint = new Vector2();
+
+    /**
+     * @param maxPoints Number of points to predict at most
+     * @param stepsPerPoint Physics steps between two points; 1 samples every step
+     */
+    public TrajectoryPredictor(int maxPoints, int stepsPerPoint) {
+        this.maxPoints = maxPoints;
+        this.stepsPerPoint = Math.max(1, stepsPerPoint);
+        this.points = new float[maxPoints * 2];
+    }
+
+    /**
+     * Predict the arc of a body launched from a point
+     * @param world World providing gravity and, when raycasting is enabled, the obstacles
+     * @param x Launch x in pixels
+     * @param y Launch y in pixels
+     * @param velocityX Launch velocity x in metres per second
+     * @param velocityY Launch velocity y in metres per second
+     * @param linearDamping Linear damping of the launched body
+     * @return Number of points predicted
+     */
+    public int predict(World world, float x, float y, float velocityX, float velocityY, float linearDamping) {
+        Vector2 gravity = world.getGravity();
+        float gravityX = gravity.x;
+        float gravityY = gravity.y;
+        float damping = 1.0f / (1.0f + TIME_STEP * linearDamping);
+
+        float positionX = x / PPM;
+        float positionY = y / PPM;
+        pointCount = 0;
+
+        int steps = maxPoints * stepsPerPoint;
+        for (int step = 1; step <= steps; step++) {
+            // Same order as b2Island::Solve: integrate velocity, damp, integrate position
+            velocityX = (velocityX + TIME_STEP * gravityX) * damping;
+            velocityY = (velocityY + TIME_STEP * gravityY) * damping;
+            float nextX = positionX + TIME_STEP * velocityX;
+            float nextY = positionY + TIME_STEP * velocityY;
+
+            if (raycastEnabled && castSegment(world, positionX, positionY, nextX, nextY)) {
+                // Finish the arc on the obstacle
+                addPoint(hitPoint.x, hitPoint.y);
+                return pointCount;
+            }
+            positionX = nextX;
+            positionY = nextY;
+
+            if (step % stepsPerPoint == 0) {
+                addPoint(positionX, positionY);
+            }
+        }
+        return pointCount;
+    }
+
+    private void addPoint(float x, float y) {
+        if (pointCount < maxPoints) {
+            points[pointCount * 2] = x * PPM;
+            points[pointCount * 2 + 1] = y * PPM;
+            pointCount++;
+        }
+    }
+
+    private boolean castSegment(World world, float fromX, float fromY, float toX, float toY) {
+        if (fromX == toX && fromY == toY) {
+            return false;
+        }
+        hit = false;
+        hitFraction = 1f;
+        rayStart.set(fromX, fromY);
+        rayEnd.set(toX, toY);
+        world.rayCast(this, rayStart, rayEnd);
+        return hit;
+    }
+
+    @Override
+    public float reportRayFixture(Fixture fixture, Vector2 point, Vector2 normal, float fraction) {
+        if (fixture.isSensor() || (fixture.getFilterData().categoryBits & OBSTACLE_BITS) == 0) {
+            return -1f; // Ignore birds and keep the ray going
+        }
+        if (fraction < hitFraction) {
+            hit = true;
+            hitFraction = fraction;
+            hitPoint.set(point);
+        }
+        // Clip the ray so only closer fixtures are reported from now on
+        return fraction;
+    }
+
+    /**
+     * @param raycastEnabled false to predict the free flight only, ignoring obstacles
+     */
+    public void setRaycastEnabled(boolean raycastEnabled) {
+        this.raycastEnabled = raycastEnabled;
+    }
+
+    public int getPointCount() {
+        return pointCount;
+    }
+
+    public float getX(int index) {
+        return points[index * 2];
+    }
+
+    public float getY(int index) {
+        return points[index * 2 + 1];
+    }
+
+    /**
+     * @return true if the last prediction ended on an obstacle; its last point is the impact
+     */
+    public boolean hasImpact() {
+        return hit;
+    }
+}
@@ -10,7 +10,6 @@ import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.ImageButton;
-import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
@@ -21,7 +20,6 @@ public class WinScreen implements Screen {
     private Game game;
     private Stage stage;
     private OrthographicCamera camera;
-    private Skin skin;
     private int currentLevel;
 
     // Background texture
@@ -58,21 +56,19 @@ public class WinScreen implements Screen {
         batch = new SpriteBatch();
         font = new BitmapFont();
 
-        skin = new Skin(Gdx.files.internal("uiskin.json"));
+        // Background texture
+        backgroundTexture = Assets.texture("winscreen.png");
 
-        // Load background texture
-        backgroundTexture = new Texture(Gdx.files.internal("winscreen.png"));
+        // Button textures
+        restartTexture = Assets.texture("restart.png");
+        restartHoverTexture = Assets.texture("restart_hover.png");
+        levelsTexture = Assets.texture("go_to_levels.png");
+        levelsHoverTexture = Assets.texture("go_to_levels_hover.png");
+        nextLevelTexture = Assets.texture("next_level_button.png");
+        nextLevelHoverTexture = Assets.texture("next_level_button_hover.png");
 
-        // Load button textures
-        restartTexture = new Texture(Gdx.files.internal("restart.png"));
-        restartHoverTexture = new Texture(Gdx.files.internal("restart_hover.png"));
-        levelsTexture = new Texture(Gdx.files.internal("go_to_levels.png"));
-        levelsHoverTexture = new Texture(Gdx.files.internal("go_to_levels_hover.png"));
-        nextLevelTexture = new Texture(Gdx.files.internal("next_level_button.png"));
-        nextLevelHoverTexture = new Texture(Gdx.files.internal("next_level_button_hover.png"));
-
-        // Load and play background music
-        backgroundMusic = Gdx.audio.newMusic(Gdx.files.internal("angry-birds-plush-yeah-sfx (1).mp3"));
+        // Play background music
+        backgroundMusic = Assets.music("angry-birds-plush-yeah-sfx (1).mp3");
         backgroundMusic.setLooping(false);
         backgroundMusic.play();
 
@@ -178,17 +174,6 @@ public class WinScreen implements Screen {
         batch.dispose();
         font.dispose();
 
-        // Dispose of background texture
-        backgroundTexture.dispose();
-
-        restartTexture.dispose();
-        restartHoverTexture.dispose();
-        levelsTexture.dispose();
-        levelsHoverTexture.dispose();
-        nextLevelTexture.dispose();
-        nextLevelHoverTexture.dispose();
-
-        // Dispose of music
-        backgroundMusic.dispose();
+        // Textures and music are owned by Assets
     }
 }
@@ -0,0 +1,103 @@
+package com.angrybirds;
+
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+
+import java.util.Arrays;
+
+/**
+ * Saved state of a fixed set of bodies, kept in flat primitive arrays so that taking and
+ * restoring it allocates nothing. Bodies are never re-created: a restore writes the saved
+ * transform, velocities, body type and activity straight back into the existing bodies, which is
+ * why GameSimulation deactivates destroyed blocks and pigs instead of destroying their bodies.
+ * Each body also carries one extra float, used for the health of pigs and blocks.
+ */
+public class WorldSnapshot {
+
+    // x, y, angle, linear velocity x and y, angular velocity
+    private static final int STRIDE = 6;
+    private static final BodyDef.BodyType[] BODY_TYPES = BodyDef.BodyType.values();
+
+    private Body[] bodies;
+    private float[] state;
+    private float[] values;
+    private byte[] types;
+    private boolean[] active;
+    private boolean[] awake;
+    private int count;
+
+    public WorldSnapshot(int capacity) {
+        int size = Math.max(1, capacity);
+        bodies = new Body[size];
+        state = new float[size * STRIDE];
+        values = new float[size];
+        types = new byte[size];
+        active = new boolean[size];
+        awake = new boolean[size];
+    }
+
+    /**
+     * Save a body's current state
+     * @param body Body to save
+     * @param value Extra value restored alongside it, e.g. health
+     * @return Index of the body in this snapshot
+     */
+    public int record(Body body, float value) {
+        if (count == bodies.length) {
+            grow();
+        }
+        int index = count++;
+        int offset = index * STRIDE;
+        bodies[index] = body;
+        state[offset] = body.getPosition().x;
+        state[offset + 1] = body.getPosition().y;
+        state[offset + 2] = body.getAngle();
+        state[offset + 3] = body.getLinearVelocity().x;
+        state[offset + 4] = body.getLinearVelocity().y;
+        state[offset + 5] = body.getAngularVelocity();
+        values[index] = value;
+        types[index] = (byte) body.getType().ordinal();
+        active[index] = body.isActive();
+        awake[index] = body.isAwake();
+        return index;
+    }
+
+    /**
+     * Write every saved body state back; must not be called during a world step
+     */
+    public void restore() {
+        for (int i = 0; i < count; i++) {
+            Body body = bodies[i];
+            int offset = i * STRIDE;
+            body.setType(BODY_TYPES[types[i]]);
+            body.setActive(active[i]);
+            body.setTransform(state[offset], state[offset + 1], state[offset + 2]);
+            body.setLinearVelocity(state[offset + 3], state[offset + 4]);
+            body.setAngularVelocity(state[offset + 5]);
+            body.setAwake(awake[i]);
+        }
+    }
+
+    public float getValue(int index) {
+        return values[index];
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public void clear() {
+        Arrays.fill(bodies, 0, count, null);
+        count = 0;
+    }
+
+    private void grow() {
+        int capacity = bodies.length * 2;
+        bodies = Arrays.copyOf(bodies, capacity);
+        state = Arrays.copyOf(state, capacity * STRIDE);
+        values = Arrays.copyOf(values, capacity);
+        types = Arrays.copyOf(types, capacity);
+        active = Arrays.copyOf(active, capacity);
+        awake = Arrays.copyOf(awake, capacity);
+    }
+}
@@ -32,6 +32,13 @@ public class YellowBird extends Bird {
         }
     }
 
+    @Override
+    void reset() {
+        super.reset();
+        specialAbilityActivated = false;
+        setDensity(baseDensity);
+    }
+
     public boolean isSpecialAbilityActivated() {
         return specialAbilityActivated;
     }
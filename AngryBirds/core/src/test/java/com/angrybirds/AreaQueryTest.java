@@ -0,0 +1,97 @@
+package com.angrybirds;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessFiles;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.Box2D;
+import com.badlogic.gdx.physics.box2d.FixtureDef;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.physics.box2d.World;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AreaQueryTest {
+
+    private World world;
+    private final AreaQuery query = new AreaQuery();
+
+    @BeforeEach
+    public void setUp() {
+        Gdx.files = new HeadlessFiles();
+        Box2D.init();
+        world = new World(new Vector2(0, 0), true);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        world.dispose();
+    }
+
+    @Test
+    public void testCircleFilterIsExactAndCategoryAware() {
+        Body near = box(0.5f, 0f, 0.2f, BodyCategory.STRUCTURE);
+        // Its bounding box overlaps the query's, but its nearest corner is ~1.13 m away
+        box(1.0f, 1.0f, 0.2f, BodyCategory.STRUCTURE);
+        Body pig = box(-0.9f, 0f, 0.2f, BodyCategory.PIG);
+        box(0f, 0.5f, 0.2f, BodyCategory.BIRD);
+        box(5f, 5f, 0.2f, BodyCategory.STRUCTURE);
+
+        int targets = BodyCategory.STRUCTURE.bits | BodyCategory.PIG.bits;
+        assertEquals(2, query.queryCircle(world, 0f, 0f, 1f, targets));
+        assertTrue(found(near));
+        assertTrue(found(pig));
+
+        assertEquals(1, query.queryCircle(world, 0f, 0f, 1f, BodyCategory.PIG.bits));
+        assertSame(pig, query.get(0));
+    }
+
+    @Test
+    public void testBlackBirdExplosionPushesBlocksAway() {
+        BlackBird bird = new BlackBird(world, 0f, 0f, LevelData.BirdType.BLACK.defaultScale);
+        Body left = box(-0.6f, 0f, 0.2f, BodyCategory.STRUCTURE);
+        Body right = box(0.8f, 0f, 0.2f, BodyCategory.STRUCTURE);
+        Body far = box(3f, 0f, 0.2f, BodyCategory.STRUCTURE);
+
+        assertEquals(2, bird.specialAbility(query));
+        assertTrue(bird.isSpecialAbilityActivated());
+        assertTrue(left.getLinearVelocity().x < 0);
+        assertTrue(right.getLinearVelocity().x > 0);
+        // The closer block takes the larger push
+        assertTrue(-left.getLinearVelocity().x > right.getLinearVelocity().x);
+        assertEquals(0f, far.getLinearVelocity().len());
+        bird.dispose();
+    }
+
+    private boolean found(Body body) {
+        for (int i = 0; i < query.size(); i++) {
+            if (query.get(i) == body) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Body box(float x, float y, float halfSize, BodyCategory category) {
+        BodyDef bodyDef = new BodyDef();
+        bodyDef.type = BodyDef.BodyType.DynamicBody;
+        bodyDef.position.set(x, y);
+        Body body = world.createBody(bodyDef);
+
+        PolygonShape shape = new PolygonShape();
+        shape.setAsBox(halfSize, halfSize);
+        FixtureDef fixtureDef = new FixtureDef();
+        fixtureDef.shape = shape;
+        fixtureDef.density = 1f;
+        fixtureDef.filter.categoryBits = category.bits;
+        body.createFixture(fixtureDef);
+        shape.dispose();
+        return body;
+    }
+}
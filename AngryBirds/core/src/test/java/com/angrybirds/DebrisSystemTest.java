@@ -0,0 +1,129 @@
+package com.angrybirds;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessFiles;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.Box2D;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DebrisSystemTest {
+
+    private static final String WOOD = LevelData.Material.WOOD.debrisPath;
+
+    private World world;
+    private EntityRegistry<Structure> structures;
+    private DebrisSystem debris;
+
+    @BeforeEach
+    public void setUp() {
+        Gdx.files = new HeadlessFiles();
+        Box2D.init();
+        world = new World(new Vector2(0, 0), true);
+        structures = new EntityRegistry<>();
+        debris = new DebrisSystem(world);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        debris.dispose();
+        world.dispose();
+    }
+
+    @Test
+    public void testBlockSplitsAlongItsLongSide() {
+        Structure horizontal = block("Horizontal_wood_block1.png", 100, 100);
+        Structure vertical = block("Vertical_wood_block1.png", 500, 100);
+        debris.prepare(structures);
+
+        assertEquals(2, debris.shatter(horizontal));
+        assertEquals(2, debris.shatter(vertical));
+        assertEquals(4, debris.size());
+
+        Vector2 horizontalCenter = horizontal.getBody().getPosition();
+        Vector2 verticalCenter = vertical.getBody().getPosition();
+        float horizontalOffset = horizontal.getWidth() / 4 / GameSimulation.PPM;
+        float verticalOffset = vertical.getHeight() / 4 / GameSimulation.PPM;
+        int left = 0;
+        int right = 0;
+        int upper = 0;
+        int lower = 0;
+        for (Body fragment : activeDebris()) {
+            Vector2 position = fragment.getPosition();
+            if (position.dst(horizontalCenter) < position.dst(verticalCenter)) {
+                // Halves of a horizontal block sit side by side and move apart
+                assertEquals(horizontalCenter.y, position.y, 1e-4f);
+                assertEquals(horizontalOffset, Math.abs(position.x - horizontalCenter.x), 1e-4f);
+                assertTrue(fragment.getLinearVelocity().x * (position.x - horizontalCenter.x) > 0);
+                if (position.x < horizontalCenter.x) {
+                    left++;
+                } else {
+                    right++;
+                }
+            } else {
+                // A vertical block splits into an upper and a lower half
+                assertEquals(verticalCenter.x, position.x, 1e-4f);
+                assertEquals(verticalOffset, Math.abs(position.y - verticalCenter.y), 1e-4f);
+                if (position.y < verticalCenter.y) {
+                    lower++;
+                } else {
+                    upper++;
+                }
+            }
+        }
+        assertEquals(1, left);
+        assertEquals(1, right);
+        assertEquals(1, upper);
+        assertEquals(1, lower);
+    }
+
+    @Test
+    public void testBudgetEvictsOldestAndLifetimeExpires() {
+        int blocks = 20;
+        for (int i = 0; i < blocks; i++) {
+            block("Horizontal_wood_block1.png", i * 250, 100);
+        }
+        debris.prepare(structures);
+        int bodies = world.getBodyCount();
+
+        for (int i = 0; i < blocks; i++) {
+            debris.shatter(structures.get(i));
+            debris.update();
+        }
+        assertEquals(DebrisSystem.MAX_FRAGMENTS, debris.size());
+        assertEquals(DebrisSystem.MAX_FRAGMENTS, activeDebris().size);
+        // Everything came out of the pools prepared up front
+        assertEquals(bodies, world.getBodyCount());
+
+        for (int i = 0; i < DebrisSystem.LIFETIME_STEPS; i++) {
+            debris.update();
+        }
+        assertEquals(0, debris.size());
+        assertEquals(0, activeDebris().size);
+    }
+
+    private Structure block(String texture, float x, float y) {
+        Structure structure = new Structure(world, texture, texture, WOOD, x, y, 1f, 10f);
+        structures.add(structure);
+        return structure;
+    }
+
+    private Array<Body> activeDebris() {
+        Array<Body> bodies = new Array<>();
+        world.getBodies(bodies);
+        Array<Body> fragments = new Array<>();
+        for (Body body : bodies) {
+            if (body.isActive() && body.getFixtureList().first().getFilterData().categoryBits == BodyCategory.DEBRIS.bits) {
+                fragments.add(body);
+            }
+        }
+        return fragments;
+    }
+}
@@ -0,0 +1,49 @@
+package com.angrybirds;
+
+import com.badlogic.gdx.Input;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DebugOverlayTest {
+
+    @Test
+    public void testOffUntilToggledOrConfigured() {
+        System.clearProperty(DebugOverlay.LAUNCH_PROPERTY);
+        DebugOverlay overlay = DebugOverlay.fromLaunchFlags();
+        assertFalse(overlay.isEnabled());
+        // Drawing while off must not touch GL, the batch or the world
+        overlay.draw(null, null);
+
+        // Layer keys do nothing while the overlay is off
+        assertFalse(overlay.keyDown(Input.Keys.NUM_2));
+        assertFalse(overlay.isLayerEnabled(DebugOverlay.Layer.AABBS));
+
+        assertTrue(overlay.keyDown(DebugOverlay.TOGGLE_KEY));
+        assertTrue(overlay.isEnabled());
+        assertTrue(overlay.isLayerEnabled(DebugOverlay.Layer.SHAPES));
+        assertTrue(overlay.keyDown(Input.Keys.NUM_2));
+        assertTrue(overlay.isLayerEnabled(DebugOverlay.Layer.AABBS));
+    }
+
+    @Test
+    public void testLaunchFlagSelectsLayers() {
+        System.setProperty(DebugOverlay.LAUNCH_PROPERTY, "contacts, Sleeping");
+        try {
+            DebugOverlay overlay = DebugOverlay.fromLaunchFlags();
+            assertTrue(overlay.isEnabled());
+            assertTrue(overlay.isLayerEnabled(DebugOverlay.Layer.CONTACTS));
+            assertTrue(overlay.isLayerEnabled(DebugOverlay.Layer.SLEEPING));
+            assertFalse(overlay.isLayerEnabled(DebugOverlay.Layer.SHAPES));
+        } finally {
+            System.clearProperty(DebugOverlay.LAUNCH_PROPERTY);
+        }
+
+        DebugOverlay all = new DebugOverlay();
+        all.configure("all");
+        for (DebugOverlay.Layer layer : DebugOverlay.Layer.values()) {
+            assertTrue(all.isLayerEnabled(layer));
+        }
+    }
+}
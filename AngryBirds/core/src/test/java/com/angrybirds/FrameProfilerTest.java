@@ -0,0 +1,65 @@
+package com.angrybirds;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessFiles;
+import com.badlogic.gdx.files.FileHandle;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FrameProfilerTest {
+
+    @Test
+    public void testPercentilesOverRollingWindow() {
+        FrameProfiler profiler = new FrameProfiler();
+        // Frames 0..WINDOW-1 take 1..WINDOW ms, with one 30 ms spike
+        for (int i = 0; i < FrameProfiler.WINDOW; i++) {
+            profiler.add(FrameProfiler.Phase.FRAME, (i == 100 ? 30 : i + 1) * 1_000_000L);
+            profiler.add(FrameProfiler.Phase.PHYSICS, 2_000_000L);
+            // Several steps in one frame add up
+            profiler.add(FrameProfiler.Phase.PHYSICS, 2_000_000L);
+            profiler.endFrame();
+        }
+
+        assertEquals(4_000_000L, profiler.getP50(FrameProfiler.Phase.PHYSICS));
+        assertEquals(FrameProfiler.WINDOW * 1_000_000L, profiler.getMax(FrameProfiler.Phase.FRAME));
+        assertTrue(profiler.getP99(FrameProfiler.Phase.FRAME) > profiler.getP50(FrameProfiler.Phase.FRAME));
+        assertEquals(0L, profiler.getMax(FrameProfiler.Phase.DEBUG));
+        // Every frame of 17 ms or more; the spike replaced a frame that was over budget anyway
+        assertEquals(FrameProfiler.WINDOW - 16, profiler.getFramesOverBudget());
+
+        // A full window of quick frames pushes the old ones out
+        for (int i = 0; i < FrameProfiler.WINDOW; i++) {
+            profiler.add(FrameProfiler.Phase.FRAME, 1_000_000L);
+            profiler.endFrame();
+        }
+        assertEquals(1_000_000L, profiler.getMax(FrameProfiler.Phase.FRAME));
+        assertEquals(0, profiler.getFramesOverBudget());
+    }
+
+    @Test
+    public void testCsvHasOneRowPerFrame() throws Exception {
+        Gdx.files = new HeadlessFiles();
+        FrameProfiler profiler = new FrameProfiler();
+        for (int i = 0; i < 3; i++) {
+            profiler.add(FrameProfiler.Phase.WORLD_STEP, (i + 1) * 1_000L);
+            profiler.endFrame();
+        }
+
+        File file = File.createTempFile("frames", ".csv");
+        file.deleteOnExit();
+        profiler.writeCsv(new FileHandle(file));
+        String[] lines = Files.readString(file.toPath()).split("\n");
+
+        assertEquals(4, lines.length);
+        assertTrue(lines[0].startsWith("frame,frame_us,"));
+        assertTrue(lines[0].contains(",world_step_us"));
+        int column = Arrays.asList(lines[0].split(",")).indexOf("world_step_us");
+        assertEquals("3", lines[3].split(",")[column]);
+    }
+}
@@ -0,0 +1,346 @@
+package com.angrybirds;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessFiles;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.Box2D;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GameSimulationTest {
+    // Two simulated minutes is far longer than any level takes to settle
+    private static final int MAX_TICKS = 60 * 120;
+
+    private GameSimulation simulation;
+
+    @BeforeEach
+    public void setUp() {
+        // Only file access and the Box2D natives are needed, no window or GL context
+        Gdx.files = new HeadlessFiles();
+        Box2D.init();
+
+        simulation = new GameSimulation(1);
+        simulation.setWorldWidth(2000);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        simulation.dispose();
+    }
+
+    @Test
+    public void testLevelLoadsWithoutGraphics() {
+        assertEquals(3, simulation.getBirds().length);
+        assertEquals(1, simulation.getPigs().size());
+        assertEquals(3, simulation.getStructures().size());
+        assertNotNull(simulation.getCurrentBird());
+        assertEquals(GameStateTracker.Outcome.IN_PROGRESS, simulation.getOutcome());
+    }
+
+    @Test
+    public void testLevelPlaysToAnOutcome() {
+        assertNotEquals(0, playToOutcome());
+        assertNotEquals(GameStateTracker.Outcome.IN_PROGRESS, simulation.getOutcome());
+    }
+
+    @Test
+    public void testBirdLifecycleFollowsEvents() {
+        Bird first = simulation.getCurrentBird();
+        List<BirdState> states = new ArrayList<>();
+        simulation.addListener(new SimulationListener() {
+            @Override
+            public void onBirdStateChanged(Bird bird, BirdState previous) {
+                if (bird == first) {
+                    states.add(bird.getState());
+                }
+            }
+        });
+        assertEquals(BirdState.LOADED, first.getState());
+        assertEquals(BirdState.QUEUED, simulation.getBirds()[1].getState());
+
+        // A steep lob slows to a halt at its apex without being retired there
+        assertTrue(simulation.beginDrag());
+        simulation.release(-10, -50);
+        for (int tick = 0; tick < MAX_TICKS && first.getState() != BirdState.SPENT; tick++) {
+            simulation.step();
+        }
+
+        assertEquals(List.of(BirdState.DRAGGED, BirdState.FLYING, BirdState.SETTLING, BirdState.SPENT), states);
+        assertSame(simulation.getBirds()[1], simulation.getCurrentBird());
+        assertEquals(BirdState.LOADED, simulation.getCurrentBird().getState());
+    }
+
+    @Test
+    public void testSplitBirdsUsePooledBodies() {
+        // Level 1 loads a blue bird second
+        launchAndSettle(-50, -15);
+        Bird blue = simulation.getCurrentBird();
+        assertTrue(blue instanceof BlueBird);
+        int bodies = simulation.getWorld().getBodyCount();
+
+        assertTrue(simulation.beginDrag());
+        simulation.release(-40, -20);
+        for (int tick = 0; tick < 10; tick++) {
+            simulation.step();
+        }
+        assertTrue(simulation.activateAbility());
+
+        assertEquals(bodies, simulation.getWorld().getBodyCount());
+        assertEquals(BlueBird.SPLIT_COUNT, simulation.getActiveBirds().size());
+        for (Bird split : simulation.getActiveBirds()) {
+            assertTrue(split.getBody().isActive());
+            assertSame(split, split.getBody().getUserData());
+        }
+
+        List<Bird> splits = new ArrayList<>(simulation.getActiveBirds());
+        simulation.restart();
+        assertEquals(bodies, simulation.getWorld().getBodyCount());
+        for (Bird split : splits) {
+            assertFalse(split.getBody().isActive());
+        }
+    }
+
+    private void launchAndSettle(float pullX, float pullY) {
+        Bird bird = simulation.getCurrentBird();
+        simulation.beginDrag();
+        simulation.release(pullX, pullY);
+        for (int tick = 0; tick < MAX_TICKS && bird.getState() != BirdState.SPENT; tick++) {
+            simulation.step();
+        }
+    }
+
+    @Test
+    public void testRestartRestoresInitialState() {
+        Bird firstBird = simulation.getCurrentBird();
+        float readyX = firstBird.getBody().getPosition().x;
+        float readyY = firstBird.getBody().getPosition().y;
+        Pig pig = simulation.getPigs().get(0);
+
+        playToOutcome();
+        simulation.restart();
+
+        assertEquals(GameStateTracker.Outcome.IN_PROGRESS, simulation.getOutcome());
+        assertSame(firstBird, simulation.getCurrentBird());
+        assertEquals(BirdState.LOADED, firstBird.getState());
+        assertEquals(BodyDef.BodyType.StaticBody, firstBird.getBody().getType());
+        assertEquals(readyX, firstBird.getBody().getPosition().x, 1e-6f);
+        assertEquals(readyY, firstBird.getBody().getPosition().y, 1e-6f);
+        assertEquals(2, simulation.getQueuedBirdCount());
+        assertEquals(1, simulation.getPigs().size());
+        assertSame(pig, simulation.getPigs().get(0));
+        assertEquals(pig.getMaxHealth(), pig.getHealth());
+        assertTrue(pig.getBody().isActive());
+        assertEquals(3, simulation.getStructures().size());
+        assertTrue(simulation.getActiveBirds().isEmpty());
+
+        // Every body is back exactly where a freshly built level puts it
+        GameSimulation fresh = new GameSimulation(1);
+        try {
+            for (int i = 0; i < fresh.getBirds().length; i++) {
+                assertSameTransform(fresh.getBirds()[i].getBody(), simulation.getBirds()[i].getBody());
+            }
+            for (int i = 0; i < fresh.getStructures().size(); i++) {
+                assertSameTransform(fresh.getStructures().get(i).getBody(), simulation.getStructures().get(i).getBody());
+            }
+            assertSameTransform(fresh.getPigs().get(0).getBody(), pig.getBody());
+        } finally {
+            fresh.dispose();
+        }
+
+        // Contacts carried over from the last attempt may nudge the run, but it still plays out
+        assertNotEquals(0, playToOutcome());
+        assertNotEquals(GameStateTracker.Outcome.IN_PROGRESS, simulation.getOutcome());
+    }
+
+    @Test
+    public void testRollingPigsFallAsleepAndWorldSettles() {
+        // Level 3 is a heap of round pigs, which Box2D alone leaves rolling for a long time
+        GameSimulation heap = new GameSimulation(3);
+        int[] settledEvents = {0};
+        heap.addListener(new SimulationListener() {
+            @Override
+            public void onWorldSettled() {
+                settledEvents[0]++;
+            }
+        });
+        int ticks = 0;
+        while (!heap.isSettled() && ticks < 60 * 30) {
+            heap.step();
+            ticks++;
+        }
+        assertTrue(heap.isSettled(), "still moving after " + ticks + " steps");
+        assertEquals(1, settledEvents[0]);
+
+        // Settled steps leave every body where it is
+        Body pig = heap.getPigs().get(0).getBody();
+        float x = pig.getPosition().x;
+        int step = heap.getStep();
+        for (int i = 0; i < 60; i++) {
+            heap.step();
+        }
+        assertEquals(step + 60, heap.getStep());
+        assertEquals(x, pig.getPosition().x);
+
+        // Picking up the bird wakes the simulation
+        assertTrue(heap.beginDrag());
+        assertFalse(heap.isSettled());
+        heap.dispose();
+    }
+
+    @Test
+    public void testDebrisExpiresBeforeTheWorldSettles() {
+        // Break a block the way a destroyed one breaks; in level 2 this one's halves come to rest long before they expire
+        GameSimulation tower = new GameSimulation(2);
+        Structure block = tower.getStructures().get(2);
+        assertTrue(tower.getDebris().shatter(block) > 0);
+        block.getBody().setActive(false);
+        int ticks = 0;
+        while (!tower.isSettled() && ticks < MAX_TICKS) {
+            tower.step();
+            ticks++;
+        }
+        assertTrue(tower.isSettled(), "still moving after " + ticks + " steps");
+        assertEquals(0, tower.getDebris().size());
+        tower.dispose();
+    }
+
+    @Test
+    public void testBirdLeavingTheLevelLetsItSettle() {
+        Bird bird = simulation.getCurrentBird();
+        assertTrue(simulation.beginDrag());
+        // Pulling right sends the bird left, off the edge where there is no ground to land on
+        simulation.release(80, -20);
+        int ticks = 0;
+        while (!simulation.isSettled() && ticks < MAX_TICKS) {
+            simulation.step();
+            ticks++;
+        }
+        assertEquals(BirdState.SPENT, bird.getState());
+        assertFalse(bird.getBody().isActive());
+        assertTrue(simulation.isSettled(), "still moving after " + ticks + " steps");
+
+        // A restart brings the bird back into the world
+        simulation.restart();
+        assertTrue(bird.getBody().isActive());
+    }
+
+    @Test
+    public void testReplayReproducesRunExactly() throws Exception {
+        GameSimulation recorded = new GameSimulation(LevelLoader.load(1), 42L);
+        Replay replay = new Replay(1, recorded.getSeed());
+        recorded.setRecorder(replay);
+        recorded.setWorldWidth(2000);
+
+        // Aim by dragging over a few frames, launch, then tap for the ability mid-flight
+        for (int tick = 0; tick < MAX_TICKS && recorded.getOutcome() == GameStateTracker.Outcome.IN_PROGRESS; tick++) {
+            Bird bird = recorded.getCurrentBird();
+            if (bird != null && bird.getBody().getType() == BodyDef.BodyType.StaticBody && tick % 7 == 0) {
+                recorded.beginDrag();
+            } else if (bird != null && bird.getBody().getType() == BodyDef.BodyType.KinematicBody) {
+                recorded.dragBirdTo(GameSimulation.BIRD_READY_X - 40, GameSimulation.BIRD_READY_Y - 12);
+                recorded.release(-40 - tick % 5, -12);
+            } else if (tick % 45 == 0) {
+                recorded.activateAbility();
+            }
+            recorded.step();
+        }
+
+        File file = File.createTempFile("level1", ".replay");
+        file.deleteOnExit();
+        replay.write(new FileHandle(file));
+        assertTrue(file.length() < 4096);
+
+        GameSimulation replayed = Replay.read(new FileHandle(file)).simulate(MAX_TICKS);
+        try {
+            assertEquals(recorded.getOutcome(), replayed.getOutcome());
+            assertEquals(recorded.getStep(), replayed.getStep());
+            assertEquals(recorded.getPigs().size(), replayed.getPigs().size());
+            assertEquals(recorded.getStructures().size(), replayed.getStructures().size());
+            for (int i = 0; i < recorded.getBirds().length; i++) {
+                assertSameTransform(recorded.getBirds()[i].getBody(), replayed.getBirds()[i].getBody());
+            }
+            for (int i = 0; i < recorded.getStructures().size(); i++) {
+                assertSameTransform(recorded.getStructures().get(i).getBody(), replayed.getStructures().get(i).getBody());
+            }
+        } finally {
+            recorded.dispose();
+            replayed.dispose();
+        }
+    }
+
+    @Test
+    public void testReplayReproducesRunAfterRestart() {
+        // Level 2 has enough blocks that contacts left over from the first attempt change the second
+        GameSimulation recorded = new GameSimulation(LevelLoader.load(2), 7L);
+        Replay replay = new Replay(2, recorded.getSeed());
+        recorded.setRecorder(replay);
+        recorded.setWorldWidth(2000);
+
+        recorded.beginDrag();
+        recorded.release(-50, -15);
+        for (int tick = 0; tick < 240; tick++) {
+            recorded.step();
+        }
+        recorded.restart();
+        for (int tick = 0; tick < MAX_TICKS && recorded.getOutcome() == GameStateTracker.Outcome.IN_PROGRESS; tick++) {
+            Bird bird = recorded.getCurrentBird();
+            if (bird != null && bird.getBody().getType() == BodyDef.BodyType.StaticBody) {
+                recorded.beginDrag();
+                recorded.release(-45, -20);
+            }
+            recorded.step();
+        }
+
+        GameSimulation replayed = replay.simulate(MAX_TICKS);
+        try {
+            assertEquals(recorded.getOutcome(), replayed.getOutcome());
+            assertEquals(recorded.getStep(), replayed.getStep());
+            assertEquals(recorded.getStructures().size(), replayed.getStructures().size());
+            for (int i = 0; i < recorded.getBirds().length; i++) {
+                assertSameTransform(recorded.getBirds()[i].getBody(), replayed.getBirds()[i].getBody());
+            }
+            for (int i = 0; i < recorded.getStructures().size(); i++) {
+                assertSameTransform(recorded.getStructures().get(i).getBody(), replayed.getStructures().get(i).getBody());
+            }
+        } finally {
+            recorded.dispose();
+            replayed.dispose();
+        }
+    }
+
+    private static void assertSameTransform(Body expected, Body actual) {
+        assertEquals(Float.floatToIntBits(expected.getPosition().x), Float.floatToIntBits(actual.getPosition().x));
+        assertEquals(Float.floatToIntBits(expected.getPosition().y), Float.floatToIntBits(actual.getPosition().y));
+        assertEquals(Float.floatToIntBits(expected.getAngle()), Float.floatToIntBits(actual.getAngle()));
+        assertEquals(expected.getLinearVelocity(), actual.getLinearVelocity());
+        assertEquals(expected.getAngularVelocity(), actual.getAngularVelocity());
+    }
+
+    private int playToOutcome() {
+        int launches = 0;
+        for (int tick = 0; tick < MAX_TICKS && simulation.getOutcome() == GameStateTracker.Outcome.IN_PROGRESS; tick++) {
+            Bird bird = simulation.getCurrentBird();
+            if (bird != null && bird.getBody().getType() == BodyDef.BodyType.StaticBody) {
+                simulation.beginDrag();
+                simulation.release(-50, -15);
+                launches++;
+            }
+            simulation.step();
+        }
+        return launches;
+    }
+}
@@ -0,0 +1,43 @@
+package com.angrybirds;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessFiles;
+import com.badlogic.gdx.physics.box2d.Box2D;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ShotSolverTest {
+
+    @BeforeEach
+    public void setUp() {
+        Gdx.files = new HeadlessFiles();
+        Box2D.init();
+    }
+
+    @Test
+    public void testLevelOneIsSolvable() {
+        LevelData level = LevelLoader.load(1);
+        ShotSolver.Solution solution = new ShotSolver(level).solve();
+
+        assertTrue(solution.clearsLevel(), solution.pigsLeft + " pigs left");
+        assertTrue(solution.shots.size() <= level.birds.size());
+    }
+
+    @Test
+    public void testSolutionDoesNotDependOnThreadCount() {
+        LevelData level = LevelLoader.load(1);
+        ShotSolver.Solution parallel = new ShotSolver(level).solve();
+        ForkJoinPool single = new ForkJoinPool(1);
+        try {
+            ShotSolver.Solution serial = new ShotSolver(level, single).solve();
+            assertEquals(serial.shots.toString(), parallel.shots.toString());
+        } finally {
+            single.shutdownNow();
+        }
+    }
+}
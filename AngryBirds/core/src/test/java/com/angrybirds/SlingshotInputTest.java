@@ -0,0 +1,129 @@
+package com.angrybirds;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.backends.headless.HeadlessFiles;
+import com.badlogic.gdx.backends.headless.mock.graphics.MockGraphics;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.Box2D;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SlingshotInputTest {
+    // Slingshot placement and size as GameScreen lays it out
+    private static final float SLINGSHOT_X = 300;
+    private static final float SLINGSHOT_Y = 500;
+    private static final float SLINGSHOT_WIDTH = 70;
+    private static final float SLINGSHOT_HEIGHT = 140;
+    private static final float PULL_LIMIT = 50;
+    // Window the touches arrive in, matching the camera GameScreen sets up
+    private static final int SCREEN_WIDTH = 640;
+    private static final int SCREEN_HEIGHT = 480;
+    private static final int WARM_UP_EVENTS = 20_000;
+    private static final int MEASURED_EVENTS = 10_000;
+    private static final int MEASURED_ROUNDS = 5;
+
+    private GameSimulation simulation;
+    private SlingshotInput input;
+    private Graphics graphics;
+
+    @BeforeEach
+    public void setUp() {
+        Gdx.files = new HeadlessFiles();
+        Box2D.init();
+        // Touches are unprojected against the window size, with libGDX's native matrix code
+        GdxNativesLoader.load();
+        graphics = Gdx.graphics;
+        Gdx.graphics = new MockGraphics() {
+            @Override
+            public int getWidth() {
+                return SCREEN_WIDTH;
+            }
+
+            @Override
+            public int getHeight() {
+                return SCREEN_HEIGHT;
+            }
+        };
+
+        simulation = new GameSimulation(1);
+        simulation.setWorldWidth(2000);
+        OrthographicCamera camera = new OrthographicCamera();
+        camera.setToOrtho(false, SCREEN_WIDTH, SCREEN_HEIGHT);
+        input = new SlingshotInput(simulation, camera,
+            SLINGSHOT_X, SLINGSHOT_Y, SLINGSHOT_WIDTH, SLINGSHOT_HEIGHT, PULL_LIMIT);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        simulation.dispose();
+        Gdx.graphics = graphics;
+    }
+
+    @Test
+    public void testDragIsClampedAndReleaseLaunches() {
+        Bird bird = simulation.getCurrentBird();
+        assertTrue(input.press(GameSimulation.BIRD_READY_X + 1, GameSimulation.BIRD_READY_Y + 1));
+        assertEquals(bird, input.getDraggedBird());
+
+        input.drag(0, 0);
+        Vector2 start = input.getDragStart();
+        Vector2 current = input.getDragCurrent();
+        assertEquals(PULL_LIMIT, current.dst(start), 1e-3f);
+
+        assertTrue(input.release());
+        assertFalse(input.isDragging());
+        assertEquals(BodyDef.BodyType.DynamicBody, bird.getBody().getType());
+    }
+
+    @Test
+    public void testDragEventsAllocateNothing() {
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assertTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        // Every drag is recorded as in the game, into a recording sized like GameScreen's so it never grows here
+        int events = WARM_UP_EVENTS + MEASURED_ROUNDS * MEASURED_EVENTS;
+        Replay replay = new Replay(1, simulation.getSeed(), events + 1);
+        simulation.setRecorder(replay);
+        assertTrue(input.press(GameSimulation.BIRD_READY_X + 1, GameSimulation.BIRD_READY_Y + 1));
+        assertNotNull(input.getDraggedBird());
+
+        // Warm up so class loading and compilation are not counted
+        for (int i = 0; i < WARM_UP_EVENTS; i++) {
+            drag(i);
+        }
+
+        // A compile finishing or a deoptimisation mid-round can allocate on this thread once,
+        // so keep the best of a few rounds
+        long allocated = Long.MAX_VALUE;
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            long before = threads.getCurrentThreadAllocatedBytes();
+            for (int i = 0; i < MEASURED_EVENTS; i++) {
+                drag(i);
+            }
+            allocated = Math.min(allocated, threads.getCurrentThreadAllocatedBytes() - before);
+        }
+
+        assertEquals(0, allocated, "bytes allocated by " + MEASURED_EVENTS + " drag events");
+        assertEquals(1 + events, replay.size());
+    }
+
+    private void drag(int i) {
+        // Sweep in and beyond the pull limit so the clamp path is exercised too
+        int offset = (i % 120) - 60;
+        assertTrue(input.touchDragged((int) SLINGSHOT_X + offset, SCREEN_HEIGHT - ((int) SLINGSHOT_Y + offset / 2), 0));
+    }
+}
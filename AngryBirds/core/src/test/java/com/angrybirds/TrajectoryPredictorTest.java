@@ -0,0 +1,67 @@
+package com.angrybirds;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessFiles;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.Box2D;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TrajectoryPredictorTest {
+    private GameSimulation simulation;
+
+    @BeforeEach
+    public void setUp() {
+        Gdx.files = new HeadlessFiles();
+        Box2D.init();
+        simulation = new GameSimulation(1);
+        simulation.setWorldWidth(2000);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        simulation.dispose();
+    }
+
+    @Test
+    public void testPredictionMatchesFreeFlight() {
+        float startX = GameSimulation.BIRD_READY_X - 40;
+        float startY = GameSimulation.BIRD_READY_Y - 12;
+        Vector2 velocity = GameSimulation.launchVelocity(-40, -12, new Vector2());
+        Body body = simulation.getCurrentBird().getBody();
+
+        TrajectoryPredictor predictor = new TrajectoryPredictor(20, 1);
+        predictor.setRaycastEnabled(false);
+        int points = predictor.predict(simulation.getWorld(), startX, startY, velocity.x, velocity.y,
+            body.getLinearDamping());
+        assertEquals(20, points);
+
+        simulation.beginDrag();
+        simulation.dragBirdTo(startX, startY);
+        simulation.release(-40, -12);
+        for (int i = 0; i < points; i++) {
+            simulation.step();
+            assertEquals(predictor.getX(i), body.getPosition().x * GameSimulation.PPM, 0.01f);
+            assertEquals(predictor.getY(i), body.getPosition().y * GameSimulation.PPM, 0.01f);
+        }
+    }
+
+    @Test
+    public void testArcStopsAtTheGround() {
+        // Pulled up, so the bird is thrown down onto the ground right in front of the slingshot
+        Vector2 velocity = GameSimulation.launchVelocity(-10, 40, new Vector2());
+        TrajectoryPredictor predictor = new TrajectoryPredictor(200, 1);
+        int points = predictor.predict(simulation.getWorld(), GameSimulation.BIRD_READY_X,
+            GameSimulation.BIRD_READY_Y, velocity.x, velocity.y, 0.2f);
+
+        assertTrue(predictor.hasImpact());
+        assertTrue(points < 200);
+        // The ground's top surface is at 465 px
+        assertEquals(465f, predictor.getY(points - 1), 0.5f);
+    }
+}
@@ -2,6 +2,7 @@ package com.angrybirds.lwjgl3;
 
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
+import com.angrybirds.DebugOverlay;
 import com.angrybirds.Main;
 import com.badlogic.gdx.physics.box2d.Box2D;
 
@@ -9,9 +10,21 @@ import com.badlogic.gdx.physics.box2d.Box2D;
 public class Lwjgl3Launcher {
     public static void main(String[] args) {
         if (StartupHelper.startNewJvmIfRequired()) return; // This handles macOS support and helps on Windows.
+        parseArguments(args);
         createApplication();
     }
 
+    /** Turns --debug or --debug=shapes,aabbs,... into the property that starts the physics debug view. */
+    private static void parseArguments(String[] args) {
+        for (String arg : args) {
+            if (arg.equals("--debug")) {
+                System.setProperty(DebugOverlay.LAUNCH_PROPERTY, "");
+            } else if (arg.startsWith("--debug=")) {
+                System.setProperty(DebugOverlay.LAUNCH_PROPERTY, arg.substring("--debug=".length()));
+            }
+        }
+    }
+
     private static Lwjgl3Application createApplication() {
         return new Lwjgl3Application(new Main(), getDefaultConfiguration());
     }